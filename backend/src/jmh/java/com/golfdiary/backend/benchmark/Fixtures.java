@@ -0,0 +1,41 @@
+package com.golfdiary.backend.benchmark;
+
+import com.golfdiary.backend.entity.User;
+import com.golfdiary.backend.entity.UserRole;
+import com.golfdiary.backend.security.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Builds the beans the benchmarks need without starting a Spring context.
+ */
+final class Fixtures {
+
+    static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256";
+
+    private Fixtures() {}
+
+    static JwtUtil jwtUtil(boolean claimsPrincipalEnabled) {
+        JwtUtil jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86400000L);
+        ReflectionTestUtils.setField(jwtUtil, "claimsPrincipalEnabled", claimsPrincipalEnabled);
+        return jwtUtil;
+    }
+
+    static User user(UserRole role) {
+        User user = new User("alice", "alice@example.com", "{noop}password", "Alice", "Walker", role);
+        user.setId(42L);
+        return user;
+    }
+
+    // Roughly the size of the text a player or instructor types into a form
+    static String text(int length) {
+        StringBuilder text = new StringBuilder(length);
+        String words = "keep the clubface square through impact and let the hips lead the downswing ";
+        while (text.length() < length) {
+            text.append(words);
+        }
+        return text.substring(0, length);
+    }
+}
@@ -0,0 +1,110 @@
+package com.golfdiary.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.golfdiary.backend.dto.LessonSummary;
+import com.golfdiary.backend.entity.GolfRound;
+import com.golfdiary.backend.entity.Lesson;
+import com.golfdiary.backend.entity.LessonCategory;
+import com.golfdiary.backend.entity.LessonLevel;
+import com.golfdiary.backend.entity.User;
+import com.golfdiary.backend.entity.UserRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response body serialization with the same ObjectMapper defaults Spring Boot configures.
+ * Sizes cover a default round page (50), the maximum page (200) and a large lesson list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"50", "200", "1000"})
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<GolfRound> rounds;
+    private List<Lesson> lessons;
+    private List<LessonSummary> lessonSummaries;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        User player = Fixtures.user(UserRole.STUDENT);
+        User instructor = Fixtures.user(UserRole.INSTRUCTOR);
+        LocalDateTime start = LocalDateTime.of(2024, 4, 1, 9, 30);
+
+        rounds = new ArrayList<>(size);
+        lessons = new ArrayList<>(size);
+        lessonSummaries = new ArrayList<>(size);
+        LessonCategory[] categories = LessonCategory.values();
+        LessonLevel[] levels = LessonLevel.values();
+        for (int i = 0; i < size; i++) {
+            GolfRound round = new GolfRound();
+            round.setId((long) i);
+            round.setUser(player);
+            round.setCourseName("Pebble Creek " + (i % 12));
+            round.setRoundDate(start.minusDays(i));
+            round.setTotalScore(78 + i % 15);
+            round.setPar(72);
+            round.setBirdies(i % 3);
+            round.setPars(9 + i % 4);
+            round.setBogeys(5);
+            round.setDoubleBogeys(1);
+            round.setOther(i % 2);
+            round.setCourseRating(71.4);
+            round.setSlopeRating(128);
+            round.recalculateScoreDifferential();
+            round.setWeather("Sunny");
+            round.setNotes(Fixtures.text(120));
+            rounds.add(round);
+
+            Lesson lesson = new Lesson("Lesson " + i, Fixtures.text(400), Fixtures.text(4000), instructor);
+            lesson.setId((long) i);
+            lesson.setInstructor(instructor);
+            lesson.setCategory(categories[i % categories.length]);
+            lesson.setLevel(levels[i % levels.length]);
+            lesson.setVideoUrl("https://videos.example.com/lessons/" + i);
+            lesson.setPublished(true);
+            lessons.add(lesson);
+
+            lessonSummaries.add(new LessonSummary(lesson.getId(), lesson.getTitle(), lesson.getCategory(),
+                    lesson.getLevel(), true, lesson.getCreatedAt(), lesson.getUpdatedAt(),
+                    instructor.getFirstName(), instructor.getLastName(), instructor.getUsername()));
+        }
+    }
+
+    @Benchmark
+    public byte[] golfRounds() throws Exception {
+        return objectMapper.writeValueAsBytes(rounds);
+    }
+
+    @Benchmark
+    public byte[] lessons() throws Exception {
+        return objectMapper.writeValueAsBytes(lessons);
+    }
+
+    @Benchmark
+    public byte[] lessonSummaries() throws Exception {
+        return objectMapper.writeValueAsBytes(lessonSummaries);
+    }
+}
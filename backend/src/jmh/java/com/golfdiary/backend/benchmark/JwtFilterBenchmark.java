@@ -0,0 +1,74 @@
+package com.golfdiary.backend.benchmark;
+
+import com.golfdiary.backend.entity.User;
+import com.golfdiary.backend.entity.UserRole;
+import com.golfdiary.backend.security.JwtAuthenticationFilter;
+import com.golfdiary.backend.security.JwtTokenCache;
+import com.golfdiary.backend.security.JwtUtil;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One authenticated request through {@link JwtAuthenticationFilter}.
+ * <ul>
+ *   <li>{@code cached} - the token is already in the verified-token cache</li>
+ *   <li>{@code claims} - cache miss, principal built from the uid/role claims</li>
+ *   <li>{@code lookup} - cache miss, principal loaded through the UserDetailsService (in memory here)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    @Param({"cached", "claims", "lookup"})
+    public String path;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+    private final FilterChain chain = (request, response) -> { };
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = Fixtures.jwtUtil(!"lookup".equals(path));
+        User user = Fixtures.user(UserRole.STUDENT);
+        UserDetailsService userDetailsService = username -> user;
+        // A cache of size zero never stores anything, so every request takes the miss path
+        JwtTokenCache tokenCache = new JwtTokenCache("cached".equals(path) ? 10000 : 0);
+        filter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, tokenCache);
+        authorization = "Bearer " + jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public Authentication authenticate() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/golf-rounds");
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
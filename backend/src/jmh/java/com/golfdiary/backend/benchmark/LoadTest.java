@@ -0,0 +1,237 @@
+package com.golfdiary.backend.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Closed-loop HTTP load against a running server, used to compare the platform and virtual thread
+ * modes. Each worker repeatedly picks an operation from a fixed mix (lesson list, round list, round
+ * create, login) and waits for the response before sending the next one. Writes throughput, latency
+ * percentiles and status counts per operation as JSON.
+ *
+ * <p>Arguments are {@code key=value}: {@code url}, {@code concurrency}, {@code duration} (seconds),
+ * {@code label} and {@code out}.
+ */
+public class LoadTest {
+
+    private enum Operation {
+        LESSON_LIST(50), ROUND_LIST(20), ROUND_CREATE(20), LOGIN(10);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+    }
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String PASSWORD = "load-test-password";
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final String baseUrl;
+    private String username;
+    private String token;
+
+    private LoadTest(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq > 0) {
+                options.put(arg.substring(0, eq), arg.substring(eq + 1));
+            }
+        }
+        String url = options.getOrDefault("url", "http://localhost:8080");
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "64"));
+        int durationSeconds = Integer.parseInt(options.getOrDefault("duration", "30"));
+        String label = options.getOrDefault("label", "run");
+        Path out = Path.of(options.getOrDefault("out", "target/jmh/loadtest-" + label + ".json"));
+
+        LoadTest loadTest = new LoadTest(url);
+        loadTest.signUp();
+        ObjectNode report = loadTest.run(concurrency, Duration.ofSeconds(durationSeconds));
+        report.put("label", label);
+
+        String json = MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(report);
+        Files.createDirectories(out.toAbsolutePath().getParent());
+        Files.writeString(out, json);
+        System.out.println(json);
+        System.out.println("Written to " + out.toAbsolutePath());
+    }
+
+    private void signUp() throws Exception {
+        username = "load" + System.currentTimeMillis();
+        ObjectNode register = MAPPER.createObjectNode()
+                .put("username", username)
+                .put("email", username + "@example.com")
+                .put("password", PASSWORD)
+                .put("firstName", "Load")
+                .put("lastName", "Test")
+                .put("role", "STUDENT");
+        send(post("/api/auth/register", register, false));
+        HttpResponse<String> login = send(loginRequest());
+        if (login.statusCode() != 200) {
+            throw new IllegalStateException("Login failed with " + login.statusCode() + ": " + login.body());
+        }
+        token = MAPPER.readTree(login.body()).path("token").asText();
+    }
+
+    private ObjectNode run(int concurrency, Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Worker> workers = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            Worker worker = new Worker(deadline);
+            workers.add(worker);
+            worker.thread.start();
+        }
+        for (Worker worker : workers) {
+            worker.thread.join();
+        }
+
+        ObjectNode report = MAPPER.createObjectNode();
+        report.put("concurrency", concurrency);
+        report.put("durationSeconds", duration.toSeconds());
+        long total = 0;
+        ObjectNode operations = report.putObject("operations");
+        for (Operation operation : Operation.values()) {
+            long[] latencies = workers.stream()
+                    .flatMapToLong(worker -> worker.latencies.get(operation).stream().mapToLong(Long::longValue))
+                    .sorted()
+                    .toArray();
+            Map<Integer, Integer> statuses = new HashMap<>();
+            for (Worker worker : workers) {
+                worker.statuses.get(operation).forEach((status, count) -> statuses.merge(status, count, Integer::sum));
+            }
+            total += latencies.length;
+
+            ObjectNode node = operations.putObject(operation.name().toLowerCase());
+            node.put("requests", latencies.length);
+            node.put("throughputPerSecond", latencies.length / (double) duration.toSeconds());
+            node.put("p50Millis", percentile(latencies, 0.50));
+            node.put("p95Millis", percentile(latencies, 0.95));
+            node.put("p99Millis", percentile(latencies, 0.99));
+            ObjectNode statusNode = node.putObject("statuses");
+            statuses.forEach((status, count) -> statusNode.put(String.valueOf(status), count));
+        }
+        report.put("requests", total);
+        report.put("throughputPerSecond", total / (double) duration.toSeconds());
+        return report;
+    }
+
+    private static double percentile(long[] sortedNanos, double quantile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sortedNanos.length - 1, Math.ceil(quantile * sortedNanos.length) - 1);
+        return sortedNanos[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private HttpRequest request(Operation operation) {
+        switch (operation) {
+            case LESSON_LIST:
+                return get("/api/lessons");
+            case ROUND_LIST:
+                return get("/api/golf-rounds?size=50");
+            case ROUND_CREATE:
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                ObjectNode round = MAPPER.createObjectNode()
+                        .put("courseName", "Load Course " + random.nextInt(20))
+                        .put("roundDate", LocalDateTime.now().minusDays(random.nextInt(365)).withNano(0).toString())
+                        .put("totalScore", 75 + random.nextInt(20))
+                        .put("par", 72)
+                        .put("courseRating", 71.5)
+                        .put("slopeRating", 125);
+                return post("/api/golf-rounds", round, true);
+            default:
+                return loginRequest();
+        }
+    }
+
+    private HttpRequest loginRequest() {
+        return post("/api/auth/login", MAPPER.createObjectNode().put("username", username).put("password", PASSWORD), false);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, JsonNode body, boolean authenticated) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()));
+        if (authenticated) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private final class Worker implements Runnable {
+
+        private final Thread thread = new Thread(this);
+        private final long deadline;
+        private final Map<Operation, List<Long>> latencies = new HashMap<>();
+        private final Map<Operation, Map<Integer, Integer>> statuses = new HashMap<>();
+
+        private Worker(long deadline) {
+            this.deadline = deadline;
+            for (Operation operation : Operation.values()) {
+                latencies.put(operation, new ArrayList<>());
+                statuses.put(operation, new HashMap<>());
+            }
+        }
+
+        @Override
+        public void run() {
+            int totalWeight = Arrays.stream(Operation.values()).mapToInt(operation -> operation.weight).sum();
+            while (System.nanoTime() < deadline) {
+                int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+                Operation operation = Operation.LOGIN;
+                for (Operation candidate : Operation.values()) {
+                    pick -= candidate.weight;
+                    if (pick < 0) {
+                        operation = candidate;
+                        break;
+                    }
+                }
+
+                long start = System.nanoTime();
+                int status;
+                try {
+                    status = send(request(operation)).statusCode();
+                } catch (Exception e) {
+                    status = -1;
+                }
+                latencies.get(operation).add(System.nanoTime() - start);
+                statuses.get(operation).merge(status, 1, Integer::sum);
+            }
+        }
+    }
+}
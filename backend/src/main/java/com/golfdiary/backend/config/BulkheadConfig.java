@@ -0,0 +1,40 @@
+package com.golfdiary.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "bulkhead.enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadConfig {
+
+    // Runs right after Spring Security so requests it rejects never take a permit
+    @Bean
+    public FilterRegistrationBean<BulkheadFilter> bulkheadFilter(
+            MeterRegistry meterRegistry,
+            @Value("${bulkhead.auth.max-concurrent:4}") int auth,
+            @Value("${bulkhead.round-writes.max-concurrent:4}") int roundWrites,
+            @Value("${bulkhead.shots.max-concurrent:8}") int shots,
+            @Value("${bulkhead.lesson-reads.max-concurrent:6}") int lessonReads,
+            @Value("${bulkhead.max-wait-ms:100}") long maxWaitMillis,
+            @Value("${bulkhead.retry-after-seconds:1}") int retryAfterSeconds) {
+        Map<BulkheadFilter.Group, Integer> limits = new EnumMap<>(BulkheadFilter.Group.class);
+        limits.put(BulkheadFilter.Group.AUTH, auth);
+        limits.put(BulkheadFilter.Group.ROUND_WRITES, roundWrites);
+        limits.put(BulkheadFilter.Group.SHOTS, shots);
+        limits.put(BulkheadFilter.Group.LESSON_READS, lessonReads);
+
+        FilterRegistrationBean<BulkheadFilter> registration = new FilterRegistrationBean<>(
+                new BulkheadFilter(limits, maxWaitMillis, retryAfterSeconds, meterRegistry));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,119 @@
+package com.golfdiary.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps how many requests of each endpoint group run at once, so one busy group cannot hold every
+ * database connection. Requests that cannot get a permit within the wait time get a 503.
+ * Permits are held until the request thread returns; async work (login password checks, the
+ * streaming export) is bounded separately.
+ */
+public class BulkheadFilter extends OncePerRequestFilter {
+
+    enum Group {
+        AUTH("auth"),
+        ROUND_WRITES("round-writes"),
+        SHOTS("shots"),
+        LESSON_READS("lesson-reads");
+
+        private final String key;
+
+        Group(String key) {
+            this.key = key;
+        }
+
+        String getKey() {
+            return key;
+        }
+    }
+
+    private final Map<Group, Semaphore> permits = new EnumMap<>(Group.class);
+    private final Map<Group, Counter> rejected = new EnumMap<>(Group.class);
+    private final long maxWaitMillis;
+    private final int retryAfterSeconds;
+
+    public BulkheadFilter(Map<Group, Integer> limits, long maxWaitMillis, int retryAfterSeconds,
+                          MeterRegistry meterRegistry) {
+        this.maxWaitMillis = maxWaitMillis;
+        this.retryAfterSeconds = retryAfterSeconds;
+        for (Map.Entry<Group, Integer> limit : limits.entrySet()) {
+            Group group = limit.getKey();
+            int maxConcurrent = limit.getValue();
+            Semaphore semaphore = new Semaphore(maxConcurrent);
+            permits.put(group, semaphore);
+            rejected.put(group, Counter.builder("golfdiary.bulkhead.rejected")
+                    .tag("group", group.getKey())
+                    .description("Requests turned away because their endpoint group was full")
+                    .register(meterRegistry));
+            Gauge.builder("golfdiary.bulkhead.in-flight", semaphore, s -> maxConcurrent - s.availablePermits())
+                    .tag("group", group.getKey())
+                    .description("Requests currently holding a permit")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Group group = groupOf(request);
+        Semaphore semaphore = group != null ? permits.get(group) : null;
+        if (semaphore == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean acquired;
+        try {
+            acquired = semaphore.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.get(group).increment();
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"message\":\"Server busy, please retry shortly\"}");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    static Group groupOf(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String method = request.getMethod();
+        if (uri.startsWith("/api/auth/")) {
+            return "POST".equals(method) ? Group.AUTH : null;
+        }
+        if (uri.startsWith("/api/golf-rounds")) {
+            if (uri.endsWith("/shots")) {
+                return "POST".equals(method) ? Group.SHOTS : null;
+            }
+            return "GET".equals(method) || "OPTIONS".equals(method) ? null : Group.ROUND_WRITES;
+        }
+        if (uri.startsWith("/api/lessons")) {
+            return "GET".equals(method) ? Group.LESSON_READS : null;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.golfdiary.backend.config;
+
+import com.golfdiary.backend.service.CourseService;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Links rounds saved before the courses table existed to their courses on startup, then loads
+ * the course cache. Started before the web server, so per-course queries never see a half-migrated
+ * table, and before the course leaderboards are built.
+ */
+@Component
+public class CourseBackfill implements SmartLifecycle {
+
+    private final CourseService courseService;
+    private volatile boolean running;
+
+    public CourseBackfill(CourseService courseService) {
+        this.courseService = courseService;
+    }
+
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    @Override
+    public void start() {
+        courseService.backfill();
+        courseService.preload();
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
@@ -7,6 +7,8 @@ import com.golfdiary.backend.entity.User;
 import com.golfdiary.backend.entity.UserRole;
 import com.golfdiary.backend.repository.LessonRepository;
 import com.golfdiary.backend.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -17,6 +19,8 @@ import java.time.LocalDateTime;
 @Configuration
 public class DataLoader {
 
+    private static final Logger log = LoggerFactory.getLogger(DataLoader.class);
+
     @Bean
     CommandLineRunner initData(UserRepository userRepository, 
                               LessonRepository lessonRepository,
@@ -115,7 +119,7 @@ public class DataLoader {
                 lesson5.setUpdatedAt(LocalDateTime.now());
                 lessonRepository.save(lesson5);
 
-                System.out.println("Test data initialized successfully!");
+                log.info("Test data initialized successfully");
             }
         };
     }
@@ -0,0 +1,85 @@
+package com.golfdiary.backend.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Drops golf_rounds indexes that earlier versions created on {@code course_name}. Schema updates
+ * only add indexes, and match them by name, so these would otherwise stay behind and be maintained
+ * on every round write. Runs before {@link CourseBackfill} so its updates skip them too.
+ */
+@Component
+public class GolfRoundIndexMigration implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(GolfRoundIndexMigration.class);
+
+    private static final String TABLE = "golf_rounds";
+    // (user_id, course_name, round_date, id) and (course_name, total_score)
+    private static final List<String> STALE_INDEXES = List.of(
+            "idx_golf_rounds_user_course_date", "idx_golf_rounds_course_score");
+
+    private final JdbcTemplate jdbcTemplate;
+    // Read-write, so the schema is read and changed on the primary
+    private final TransactionTemplate transactionTemplate;
+    private volatile boolean running;
+
+    public GolfRoundIndexMigration(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public int getPhase() {
+        return -1;
+    }
+
+    @Override
+    public void start() {
+        transactionTemplate.executeWithoutResult(status -> dropStaleIndexes());
+        running = true;
+    }
+
+    private void dropStaleIndexes() {
+        Set<String> existing = jdbcTemplate.execute((Connection connection) -> {
+            Set<String> names = new HashSet<>();
+            try (ResultSet indexes = connection.getMetaData()
+                    .getIndexInfo(connection.getCatalog(), null, TABLE, false, false)) {
+                while (indexes.next()) {
+                    String name = indexes.getString("INDEX_NAME");
+                    if (name != null) {
+                        names.add(name.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            return names;
+        });
+        for (String index : STALE_INDEXES) {
+            if (existing.contains(index)) {
+                jdbcTemplate.execute("DROP INDEX " + index + " ON " + TABLE);
+                log.info("Dropped stale index {} on {}", index, TABLE);
+            }
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
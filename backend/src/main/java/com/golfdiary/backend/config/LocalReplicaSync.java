@@ -0,0 +1,126 @@
+package com.golfdiary.backend.config;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stands in for MySQL replication when running with two embedded H2 databases (profile
+ * {@code replica-local}). Copies the primary's schema once, then every table's rows on a fixed
+ * interval, so the replica lags the primary the way a real one does.
+ */
+@Component
+@Profile("replica-local")
+public class LocalReplicaSync {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalReplicaSync.class);
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long intervalMillis;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "local-replica-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LocalReplicaSync(@Qualifier("primaryDataSource") DataSource primary,
+                            @Qualifier("replicaDataSource") DataSource replica,
+                            @Value("${datasource.replica.local-sync-interval-ms:2000}") long intervalMillis) {
+        this.primary = primary;
+        this.replica = replica;
+        this.intervalMillis = intervalMillis;
+    }
+
+    // Runs before the CommandLineRunners, which already read through the replica
+    @EventListener(ApplicationStartedEvent.class)
+    public void copySchema() {
+        List<String> ddl = new JdbcTemplate(primary).queryForList("SCRIPT NODATA", String.class);
+        JdbcTemplate replicaTemplate = new JdbcTemplate(replica);
+        for (String statement : ddl) {
+            if (!statement.startsWith("CREATE USER")) {
+                replicaTemplate.execute(statement);
+            }
+        }
+    }
+
+    // Before the caches that warm up from the replica on the same event
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void start() {
+        sync();
+        scheduler.scheduleWithFixedDelay(this::sync, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Copying the primary database to the replica every {} ms", intervalMillis);
+    }
+
+    private void sync() {
+        List<String> tables = new JdbcTemplate(primary).queryForList(
+                "SELECT table_name FROM information_schema.tables "
+                        + "WHERE table_schema = 'public' AND table_type = 'BASE TABLE'", String.class);
+        // One replica transaction, so readers see either the previous copy or the new one
+        try (Connection source = primary.getConnection(); Connection target = replica.getConnection()) {
+            target.setAutoCommit(false);
+            try (Statement statement = target.createStatement()) {
+                statement.execute("SET REFERENTIAL_INTEGRITY FALSE");
+                for (String table : tables) {
+                    statement.execute("DELETE FROM " + table);
+                    copyRows(source, target, table);
+                }
+                target.commit();
+                statement.execute("SET REFERENTIAL_INTEGRITY TRUE");
+            } catch (SQLException e) {
+                target.rollback();
+                throw e;
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Replica sync failed", e);
+        }
+    }
+
+    private static void copyRows(Connection source, Connection target, String table) throws SQLException {
+        try (Statement select = source.createStatement(); ResultSet rows = select.executeQuery("SELECT * FROM " + table)) {
+            ResultSetMetaData meta = rows.getMetaData();
+            int columns = meta.getColumnCount();
+            StringBuilder sql = new StringBuilder("INSERT INTO ").append(table).append(" VALUES (");
+            for (int i = 1; i <= columns; i++) {
+                sql.append(i > 1 ? ", ?" : "?");
+            }
+            try (PreparedStatement insert = target.prepareStatement(sql.append(')').toString())) {
+                while (rows.next()) {
+                    for (int i = 1; i <= columns; i++) {
+                        insert.setObject(i, rows.getObject(i));
+                    }
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+}
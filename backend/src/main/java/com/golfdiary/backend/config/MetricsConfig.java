@@ -0,0 +1,31 @@
+package com.golfdiary.backend.config;
+
+import com.golfdiary.backend.security.JwtTokenCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    // Read from the cache's own counters at scrape time; nothing is recorded per request
+    @Bean
+    public MeterBinder jwtTokenCacheMetrics(JwtTokenCache tokenCache) {
+        return registry -> {
+            FunctionCounter.builder("golfdiary.jwt.cache.hits", tokenCache, JwtTokenCache::getHits)
+                    .description("Requests authenticated from the verified-token cache")
+                    .register(registry);
+            FunctionCounter.builder("golfdiary.jwt.cache.misses", tokenCache, JwtTokenCache::getMisses)
+                    .description("Requests that had to parse and verify their token")
+                    .register(registry);
+            FunctionCounter.builder("golfdiary.jwt.cache.evictions", tokenCache, JwtTokenCache::getEvictions)
+                    .description("Cached tokens dropped to stay within jwt.cache.max-size")
+                    .register(registry);
+            Gauge.builder("golfdiary.jwt.cache.size", tokenCache, JwtTokenCache::size)
+                    .description("Verified tokens currently cached")
+                    .register(registry);
+        };
+    }
+}
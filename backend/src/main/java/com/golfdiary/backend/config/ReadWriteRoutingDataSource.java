@@ -0,0 +1,32 @@
+package com.golfdiary.backend.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the replica and everything else (writes, reads outside a
+ * transaction, reads by a user who just wrote) to the primary. Must sit behind a
+ * {@code LazyConnectionDataSourceProxy} so the connection is picked after the transaction's
+ * read-only flag is known.
+ */
+class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route { PRIMARY, REPLICA }
+
+    private final ReplicaStickiness stickiness;
+
+    ReadWriteRoutingDataSource(ReplicaStickiness stickiness) {
+        this.stickiness = stickiness;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                stickiness.markOnCommit();
+            }
+            return Route.PRIMARY;
+        }
+        return stickiness.isSticky() ? Route.PRIMARY : Route.REPLICA;
+    }
+}
@@ -0,0 +1,64 @@
+package com.golfdiary.backend.config;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-your-writes for the replica: after a user's write transaction commits, that user's reads go to
+ * the primary for {@code windowMillis}, which should exceed the usual replication lag.
+ */
+class ReplicaStickiness {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final long windowMillis;
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    ReplicaStickiness(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    boolean isSticky() {
+        String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+        Long until = stickyUntil.get(user);
+        if (until == null) {
+            return false;
+        }
+        if (until < System.currentTimeMillis()) {
+            stickyUntil.remove(user, until);
+            return false;
+        }
+        return true;
+    }
+
+    // Called when a read-write transaction takes a primary connection
+    void markOnCommit() {
+        String user = currentUser();
+        if (user == null || windowMillis <= 0 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                long now = System.currentTimeMillis();
+                stickyUntil.put(user, now + windowMillis);
+                if (stickyUntil.size() > CLEANUP_THRESHOLD) {
+                    stickyUntil.values().removeIf(until -> until < now);
+                }
+            }
+        });
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.golfdiary.backend.config;
+
+import com.golfdiary.backend.service.RoundStatsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recomputes the per-user round summaries from golf_rounds when the application is started
+ * with {@code --rebuild-round-stats}, e.g. {@code mvn spring-boot:run -Dspring-boot.run.arguments=--rebuild-round-stats}.
+ */
+@Component
+public class RoundStatsRebuildRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(RoundStatsRebuildRunner.class);
+
+    private final RoundStatsService roundStatsService;
+
+    public RoundStatsRebuildRunner(RoundStatsService roundStatsService) {
+        this.roundStatsService = roundStatsService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption("rebuild-round-stats")) {
+            int users = roundStatsService.rebuildAll();
+            log.info("Rebuilt round statistics for {} users", users);
+        }
+    }
+}
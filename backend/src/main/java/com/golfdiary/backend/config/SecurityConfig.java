@@ -1,6 +1,10 @@
 package com.golfdiary.backend.config;
 
 import com.golfdiary.backend.security.JwtAuthenticationFilter;
+import com.golfdiary.backend.security.TimedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -28,7 +32,12 @@ public class SecurityConfig {
             .cors().and()
             .csrf().disable()
             .authorizeHttpRequests()
+                // Async dispatches only finish responses (e.g. streamed exports) already authorized on the original request
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                .requestMatchers("/api/auth/password").authenticated()
                 .requestMatchers("/api/auth/**").permitAll()
+                // Only reachable on the management port (management.server.address), never the public one
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                 .requestMatchers("GET", "/api/lessons").permitAll()
                 .requestMatchers("GET", "/api/lessons/category/**").permitAll()
                 .requestMatchers("GET", "/api/lessons/level/**").permitAll()
@@ -44,8 +53,10 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${auth.bcrypt.strength:10}") int strength) {
+        // Hashes with a lower cost are upgraded the next time their owner logs in
+        return new TimedPasswordEncoder(new BCryptPasswordEncoder(strength), meterRegistry);
     }
 
     @Bean
@@ -0,0 +1,32 @@
+package com.golfdiary.backend.config;
+
+import com.golfdiary.backend.security.CurrentUserArgumentResolver;
+import com.golfdiary.backend.security.RoleGuardInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final CurrentUserArgumentResolver currentUserArgumentResolver;
+    private final RoleGuardInterceptor roleGuardInterceptor;
+
+    public WebConfig(CurrentUserArgumentResolver currentUserArgumentResolver, RoleGuardInterceptor roleGuardInterceptor) {
+        this.currentUserArgumentResolver = currentUserArgumentResolver;
+        this.roleGuardInterceptor = roleGuardInterceptor;
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(currentUserArgumentResolver);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(roleGuardInterceptor);
+    }
+}
@@ -1,35 +1,41 @@
 package com.golfdiary.backend.controller;
 
+import com.golfdiary.backend.diagnostics.QueryBudget;
 import com.golfdiary.backend.dto.AuthRequest;
 import com.golfdiary.backend.dto.AuthResponse;
+import com.golfdiary.backend.dto.AvailabilityResponse;
+import com.golfdiary.backend.dto.ChangePasswordRequest;
 import com.golfdiary.backend.dto.RegisterRequest;
 import com.golfdiary.backend.entity.User;
-import com.golfdiary.backend.entity.UserRole;
-import com.golfdiary.backend.security.JwtUtil;
+import com.golfdiary.backend.security.CurrentUser;
+import com.golfdiary.backend.service.LoginService;
 import com.golfdiary.backend.service.UserService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
 @RestController
 @RequestMapping("/api/auth")
 @CrossOrigin(origins = "http://localhost:3000")
 public class AuthController {
 
-    private final AuthenticationManager authenticationManager;
     private final UserService userService;
-    private final JwtUtil jwtUtil;
+    private final LoginService loginService;
 
-    public AuthController(AuthenticationManager authenticationManager, UserService userService, JwtUtil jwtUtil) {
-        this.authenticationManager = authenticationManager;
+    public AuthController(UserService userService, LoginService loginService) {
         this.userService = userService;
-        this.jwtUtil = jwtUtil;
+        this.loginService = loginService;
     }
 
+    // One insert; a duplicate costs two more queries to report which field collided
     @PostMapping("/register")
+    @QueryBudget(3)
     public ResponseEntity<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
         try {
             User user = userService.registerUser(
@@ -47,31 +53,53 @@ public class AuthController {
         }
     }
 
+    // Completes asynchronously so the servlet thread is released while the password is checked
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@Valid @RequestBody AuthRequest request) {
+    @QueryBudget(1)
+    public CompletableFuture<ResponseEntity<AuthResponse>> login(@Valid @RequestBody AuthRequest request) {
         try {
-            authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
-            );
+            return loginService.login(request.getUsername(), request.getPassword())
+                    .thenApply(ResponseEntity::ok)
+                    .exceptionally(e -> ResponseEntity.badRequest().body(new AuthResponse("Invalid username or password")));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(loginService.getRetryAfterSeconds()))
+                    .body(new AuthResponse("Too many login attempts in progress, please retry shortly")));
+        }
+    }
 
-            UserDetails userDetails = userService.loadUserByUsername(request.getUsername());
-            String token = jwtUtil.generateToken(userDetails);
-            
-            User user = userService.findByUsername(request.getUsername()).orElse(null);
-            UserRole role = user != null ? user.getRole() : UserRole.STUDENT;
-            
-            return ResponseEntity.ok(new AuthResponse(token, request.getUsername(), role));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(new AuthResponse("Invalid username or password"));
+    @PutMapping("/password")
+    @QueryBudget(2)
+    public ResponseEntity<AuthResponse> changePassword(@Valid @RequestBody ChangePasswordRequest request,
+                                                       @CurrentUser User currentUser) {
+        try {
+            userService.changePassword(currentUser.getId(), request.getCurrentPassword(), request.getNewPassword());
+            return ResponseEntity.ok(new AuthResponse("Password changed successfully"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new AuthResponse(e.getMessage()));
         }
     }
 
+    // Live check for the registration form; names the filters have never seen cost no query
+    @GetMapping("/availability")
+    @QueryBudget(2)
+    public ResponseEntity<AvailabilityResponse> checkAvailability(@RequestParam(required = false) String username,
+                                                                  @RequestParam(required = false) String email) {
+        Boolean usernameAvailable = username == null || username.isBlank()
+                ? null : userService.isUsernameAvailable(username);
+        Boolean emailAvailable = email == null || email.isBlank()
+                ? null : userService.isEmailAvailable(email);
+        return ResponseEntity.ok(new AvailabilityResponse(username, usernameAvailable, email, emailAvailable));
+    }
+
     @GetMapping("/test")
+    @QueryBudget(0)
     public ResponseEntity<String> test() {
         return ResponseEntity.ok("Auth endpoint is working!");
     }
     
     @GetMapping("/check-user/{username}")
+    @QueryBudget(1)
     public ResponseEntity<String> checkUser(@PathVariable String username) {
         try {
             Optional<User> user = userService.findByUsername(username);
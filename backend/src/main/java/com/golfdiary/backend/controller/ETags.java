@@ -0,0 +1,57 @@
+package com.golfdiary.backend.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+import java.util.function.Supplier;
+
+/**
+ * Strong validators built from maintained version counters, checked before any entity is
+ * loaded: a matching {@code If-None-Match} returns 304 without running the read query.
+ */
+final class ETags {
+
+    // The lesson catalog version is in-memory, so tags from a previous run must not match
+    private static final String BOOT_EPOCH = Long.toString(System.currentTimeMillis(), 36);
+
+    private ETags() {
+    }
+
+    static String lessons(long catalogVersion) {
+        return "\"lessons-" + BOOT_EPOCH + "-" + catalogVersion + "\"";
+    }
+
+    // Instructor views hold unpublished lessons, so one instructor's tag must never match another's
+    static String instructorLessons(Long instructorId, long catalogVersion) {
+        return "\"lessons-" + BOOT_EPOCH + "-" + instructorId + "-" + catalogVersion + "\"";
+    }
+
+    static String rounds(Long userId, long revision) {
+        return "\"rounds-" + userId + "-" + revision + "\"";
+    }
+
+    // Bucketed trends also change when a new week or month starts, without any round being written
+    static String roundTrend(Long userId, long revision, LocalDate currentBucket) {
+        return "\"rounds-" + userId + "-" + revision + "-" + currentBucket + "\"";
+    }
+
+    // Clients may cache but must revalidate; per-user data stays out of shared caches
+    static <T> ResponseEntity<T> conditional(WebRequest request, String etag, boolean perUser,
+                                             Supplier<ResponseEntity<T>> body) {
+        CacheControl cacheControl = perUser ? CacheControl.noCache().cachePrivate() : CacheControl.noCache();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        ResponseEntity<T> response = body.get();
+        if (!response.getStatusCode().is2xxSuccessful()) {
+            return response;
+        }
+        return ResponseEntity.status(response.getStatusCode())
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(response.getBody());
+    }
+}
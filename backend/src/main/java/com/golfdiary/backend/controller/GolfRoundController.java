@@ -1,16 +1,30 @@
 package com.golfdiary.backend.controller;
 
+import com.golfdiary.backend.diagnostics.QueryBudget;
+import com.golfdiary.backend.dto.RoundImportResult;
+import com.golfdiary.backend.dto.RoundPage;
+import com.golfdiary.backend.dto.RoundStatistics;
+import com.golfdiary.backend.dto.RoundTrend;
 import com.golfdiary.backend.entity.GolfRound;
 import com.golfdiary.backend.entity.User;
+import com.golfdiary.backend.security.CurrentUser;
+import com.golfdiary.backend.service.GolfRoundExportService;
+import com.golfdiary.backend.service.GolfRoundImportService;
 import com.golfdiary.backend.service.GolfRoundService;
-import com.golfdiary.backend.service.UserService;
+import com.golfdiary.backend.service.RoundStatsService;
+import com.golfdiary.backend.service.RoundTrendService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
 
 @RestController
@@ -19,43 +33,62 @@ import java.util.Optional;
 public class GolfRoundController {
 
     private final GolfRoundService golfRoundService;
-    private final UserService userService;
+    private final GolfRoundExportService golfRoundExportService;
+    private final GolfRoundImportService golfRoundImportService;
+    private final RoundStatsService roundStatsService;
+    private final RoundTrendService roundTrendService;
 
-    public GolfRoundController(GolfRoundService golfRoundService, UserService userService) {
+    public GolfRoundController(GolfRoundService golfRoundService, GolfRoundExportService golfRoundExportService,
+                               GolfRoundImportService golfRoundImportService, RoundStatsService roundStatsService,
+                               RoundTrendService roundTrendService) {
         this.golfRoundService = golfRoundService;
-        this.userService = userService;
+        this.golfRoundExportService = golfRoundExportService;
+        this.golfRoundImportService = golfRoundImportService;
+        this.roundStatsService = roundStatsService;
+        this.roundTrendService = roundTrendService;
     }
 
     @GetMapping
-    public ResponseEntity<List<GolfRound>> getAllRounds() {
-        User currentUser = getCurrentUser();
-        List<GolfRound> rounds = golfRoundService.getAllRoundsByUser(currentUser);
-        return ResponseEntity.ok(rounds);
+    @QueryBudget(2)
+    public ResponseEntity<RoundPage> getAllRounds(@RequestParam(required = false) String cursor,
+                                                  @RequestParam(required = false) Integer size,
+                                                  @CurrentUser User currentUser, WebRequest request) {
+        return ETags.conditional(request, roundsETag(currentUser), true, () -> {
+            try {
+                return ResponseEntity.ok(golfRoundService.getRoundsPage(currentUser, cursor, size));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        });
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<GolfRound> getRoundById(@PathVariable Long id) {
-        User currentUser = getCurrentUser();
-        Optional<GolfRound> round = golfRoundService.getRoundById(id);
-        
-        if (round.isPresent() && round.get().getUser().getId().equals(currentUser.getId())) {
-            return ResponseEntity.ok(round.get());
-        } else {
-            return ResponseEntity.notFound().build();
-        }
+    @QueryBudget(2)
+    public ResponseEntity<GolfRound> getRoundById(@PathVariable Long id, @CurrentUser User currentUser,
+                                                  WebRequest request) {
+        return ETags.conditional(request, roundsETag(currentUser), true, () -> {
+            Optional<GolfRound> round = golfRoundService.getRoundById(id);
+
+            if (round.isPresent() && round.get().getUser().getId().equals(currentUser.getId())) {
+                return ResponseEntity.ok(round.get());
+            } else {
+                return ResponseEntity.notFound().build();
+            }
+        });
     }
 
     @PostMapping
-    public ResponseEntity<GolfRound> createRound(@RequestBody GolfRound golfRound) {
-        User currentUser = getCurrentUser();
+    @QueryBudget(9) // includes creating the course and looking up the username the first time either is seen
+    public ResponseEntity<GolfRound> createRound(@RequestBody GolfRound golfRound, @CurrentUser User currentUser) {
         golfRound.setUser(currentUser);
         GolfRound savedRound = golfRoundService.createGolfRound(golfRound);
         return ResponseEntity.ok(savedRound);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<GolfRound> updateRound(@PathVariable Long id, @RequestBody GolfRound golfRound) {
-        User currentUser = getCurrentUser();
+    @QueryBudget(9) // the ownership check reads the replica; the write transaction re-reads the round on the primary
+    public ResponseEntity<GolfRound> updateRound(@PathVariable Long id, @RequestBody GolfRound golfRound,
+                                                 @CurrentUser User currentUser) {
         Optional<GolfRound> existingRound = golfRoundService.getRoundById(id);
         
         if (existingRound.isPresent() && existingRound.get().getUser().getId().equals(currentUser.getId())) {
@@ -69,8 +102,8 @@ public class GolfRoundController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteRound(@PathVariable Long id) {
-        User currentUser = getCurrentUser();
+    @QueryBudget(10) // as update, plus rescanning min/max when the round held the user's best or worst score
+    public ResponseEntity<Void> deleteRound(@PathVariable Long id, @CurrentUser User currentUser) {
         Optional<GolfRound> round = golfRoundService.getRoundById(id);
         
         if (round.isPresent() && round.get().getUser().getId().equals(currentUser.getId())) {
@@ -82,25 +115,150 @@ public class GolfRoundController {
     }
 
     @GetMapping("/course/{courseName}")
-    public ResponseEntity<List<GolfRound>> getRoundsByCourse(@PathVariable String courseName) {
-        User currentUser = getCurrentUser();
-        List<GolfRound> rounds = golfRoundService.getRoundsByUserAndCourse(currentUser, courseName);
-        return ResponseEntity.ok(rounds);
+    @QueryBudget(2)
+    public ResponseEntity<RoundPage> getRoundsByCourse(@PathVariable String courseName,
+                                                       @RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer size,
+                                                       @CurrentUser User currentUser, WebRequest request) {
+        return ETags.conditional(request, roundsETag(currentUser), true, () -> {
+            try {
+                return ResponseEntity.ok(golfRoundService.getRoundsPageByCourse(currentUser, courseName, cursor, size));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        });
     }
 
     @GetMapping("/date-range")
-    public ResponseEntity<List<GolfRound>> getRoundsByDateRange(
+    @QueryBudget(2)
+    public ResponseEntity<RoundPage> getRoundsByDateRange(
             @RequestParam LocalDateTime startDate,
-            @RequestParam LocalDateTime endDate) {
-        User currentUser = getCurrentUser();
-        List<GolfRound> rounds = golfRoundService.getRoundsByUserAndDateRange(currentUser, startDate, endDate);
-        return ResponseEntity.ok(rounds);
+            @RequestParam LocalDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @CurrentUser User currentUser, WebRequest request) {
+        return ETags.conditional(request, roundsETag(currentUser), true, () -> {
+            try {
+                return ResponseEntity.ok(golfRoundService.getRoundsPageByDateRange(currentUser, startDate, endDate, cursor, size));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        });
+    }
+
+    // Scoring statistics computed in the database, optionally filtered by course and date range
+    @GetMapping("/stats")
+    @QueryBudget(2)
+    public ResponseEntity<RoundStatistics> getStatistics(
+            @RequestParam(required = false) String courseName,
+            @RequestParam(required = false) LocalDateTime startDate,
+            @RequestParam(required = false) LocalDateTime endDate,
+            @CurrentUser User currentUser, WebRequest request) {
+        return ETags.conditional(request, roundsETag(currentUser), true,
+                () -> ResponseEntity.ok(golfRoundService.getStatistics(currentUser, courseName, startDate, endDate)));
+    }
+
+    // Career totals from the incrementally maintained per-user summary (primary-key lookup)
+    @GetMapping("/stats/career")
+    @QueryBudget(2)
+    public ResponseEntity<RoundStatistics> getCareerStatistics(@CurrentUser User currentUser, WebRequest request) {
+        return ETags.conditional(request, roundsETag(currentUser), true,
+                () -> ResponseEntity.ok(roundStatsService.getCareerStatistics(currentUser.getId())));
+    }
+
+    // Moving average over the last `window` rounds, or per-week/month averages when `bucket` is given
+    @GetMapping("/trends")
+    @QueryBudget(2)
+    public ResponseEntity<RoundTrend> getTrends(@RequestParam(required = false) Integer window,
+                                                @RequestParam(required = false) String bucket,
+                                                @RequestParam(required = false) String courseName,
+                                                @RequestParam(required = false) Integer limit,
+                                                @CurrentUser User currentUser, WebRequest request) {
+        String course = courseName == null || courseName.isBlank() ? null : courseName;
+        if (bucket == null) {
+            return ETags.conditional(request, roundsETag(currentUser), true, () -> {
+                try {
+                    return ResponseEntity.ok(roundTrendService.getRollingTrend(currentUser.getId(), course,
+                            window != null ? window : 5, limit != null ? limit : 50));
+                } catch (IllegalArgumentException e) {
+                    return ResponseEntity.badRequest().build();
+                }
+            });
+        }
+        RoundTrendService.Bucket trendBucket;
+        try {
+            trendBucket = RoundTrendService.Bucket.fromParam(bucket);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (window != null) {
+            return ResponseEntity.badRequest().build();
+        }
+        // One date for the tag and the body, so the tag names the buckets the body holds
+        LocalDate today = LocalDate.now();
+        String etag = ETags.roundTrend(currentUser.getId(), roundStatsService.getRevision(currentUser.getId()),
+                trendBucket.startOf(today));
+        return ETags.conditional(request, etag, true, () -> {
+            try {
+                return ResponseEntity.ok(roundTrendService.getBucketTrend(currentUser.getId(), course,
+                        trendBucket, today, limit != null ? limit : 12));
+            } catch (IllegalArgumentException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        });
+    }
+
+    // Streams the full history as NDJSON (default) or CSV without loading it into memory
+    @GetMapping("/export")
+    @QueryBudget(0) // the rows are read on the async streaming thread, outside the counted request thread
+    public ResponseEntity<StreamingResponseBody> exportRounds(@RequestParam(defaultValue = "ndjson") String format,
+                                                              @CurrentUser User currentUser) {
+        GolfRoundExportService.Format exportFormat;
+        try {
+            exportFormat = GolfRoundExportService.Format.fromParam(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Long userId = currentUser.getId();
+        StreamingResponseBody body = out -> golfRoundExportService.export(userId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"golf-rounds." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    // Bulk import from a raw JSON array or CSV body; invalid rows are skipped and reported
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_JSON_VALUE, "text/csv"})
+    @QueryBudget(6) // plus three statements for every course not seen before
+    public ResponseEntity<RoundImportResult> importRounds(InputStream body,
+                                                          @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                          @CurrentUser User currentUser) {
+        return runImport(currentUser, GolfRoundImportService.Format.fromContentType(contentType), body);
+    }
+
+    // Same import from a multipart upload; the format follows the file extension
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @QueryBudget(6) // plus three statements for every course not seen before
+    public ResponseEntity<RoundImportResult> importRoundsFile(@RequestParam("file") MultipartFile file,
+                                                              @CurrentUser User currentUser) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            return runImport(currentUser, GolfRoundImportService.Format.fromFilename(file.getOriginalFilename()), in);
+        }
     }
 
-    private User getCurrentUser() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        return userService.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    // Every round write bumps the user's stats revision, so it validates all of the user's round reads
+    private String roundsETag(User currentUser) {
+        return ETags.rounds(currentUser.getId(), roundStatsService.getRevision(currentUser.getId()));
+    }
+
+    private ResponseEntity<RoundImportResult> runImport(User currentUser, GolfRoundImportService.Format format,
+                                                        InputStream in) {
+        try {
+            return ResponseEntity.ok(golfRoundImportService.importRounds(currentUser.getId(), format, in));
+        } catch (IllegalArgumentException | IOException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
-} 
\ No newline at end of file
+}
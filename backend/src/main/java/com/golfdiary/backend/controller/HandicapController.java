@@ -0,0 +1,41 @@
+package com.golfdiary.backend.controller;
+
+import com.golfdiary.backend.diagnostics.QueryBudget;
+import com.golfdiary.backend.dto.HandicapSummary;
+import com.golfdiary.backend.entity.HandicapHistory;
+import com.golfdiary.backend.entity.User;
+import com.golfdiary.backend.security.CurrentUser;
+import com.golfdiary.backend.service.HandicapService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/handicap")
+@CrossOrigin(origins = "http://localhost:3000")
+public class HandicapController {
+
+    private static final int MAX_HISTORY = 500;
+
+    private final HandicapService handicapService;
+
+    public HandicapController(HandicapService handicapService) {
+        this.handicapService = handicapService;
+    }
+
+    @GetMapping
+    @QueryBudget(2)
+    public ResponseEntity<HandicapSummary> getHandicap(@CurrentUser User currentUser) {
+        return ResponseEntity.ok(handicapService.getCurrentHandicap(currentUser.getId()));
+    }
+
+    // Handicap index over time, newest first
+    @GetMapping("/history")
+    @QueryBudget(1)
+    public ResponseEntity<List<HandicapHistory>> getHistory(@RequestParam(defaultValue = "50") int limit,
+                                                            @CurrentUser User currentUser) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_HISTORY));
+        return ResponseEntity.ok(handicapService.getHistory(currentUser.getId(), boundedLimit));
+    }
+}
@@ -0,0 +1,38 @@
+package com.golfdiary.backend.controller;
+
+import com.golfdiary.backend.diagnostics.QueryBudget;
+import com.golfdiary.backend.dto.Leaderboard;
+import com.golfdiary.backend.service.CourseLeaderboardService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/leaderboards")
+@CrossOrigin(origins = "http://localhost:3000")
+public class LeaderboardController {
+
+    private final CourseLeaderboardService courseLeaderboardService;
+
+    public LeaderboardController(CourseLeaderboardService courseLeaderboardService) {
+        this.courseLeaderboardService = courseLeaderboardService;
+    }
+
+    // Best rounds on a course, all time or for one calendar year
+    @GetMapping("/{courseName}")
+    @QueryBudget(1) // served from memory unless deletes have emptied the board below its size
+    public ResponseEntity<Leaderboard> getLeaderboard(@PathVariable String courseName,
+                                                      @RequestParam(defaultValue = "gross") String metric,
+                                                      @RequestParam(required = false) Integer season,
+                                                      @RequestParam(required = false) Integer limit) {
+        try {
+            if (season != null && (season < 1900 || season > 9999)) {
+                return ResponseEntity.badRequest().build();
+            }
+            return ResponseEntity.ok(courseLeaderboardService.getLeaderboard(courseName, season,
+                    CourseLeaderboardService.Metric.fromParam(metric),
+                    limit != null ? limit : courseLeaderboardService.getSize()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -1,16 +1,18 @@
 package com.golfdiary.backend.controller;
 
+import com.golfdiary.backend.diagnostics.QueryBudget;
+import com.golfdiary.backend.dto.LessonSummary;
 import com.golfdiary.backend.entity.Lesson;
 import com.golfdiary.backend.entity.LessonCategory;
 import com.golfdiary.backend.entity.LessonLevel;
 import com.golfdiary.backend.entity.User;
 import com.golfdiary.backend.entity.UserRole;
+import com.golfdiary.backend.security.CurrentUser;
+import com.golfdiary.backend.security.RequireRole;
 import com.golfdiary.backend.service.LessonService;
-import com.golfdiary.backend.service.UserService;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,188 +22,143 @@ import java.util.Optional;
 @CrossOrigin(origins = "http://localhost:3000")
 public class LessonController {
 
+    private static final int MAX_SEARCH_RESULTS = 100;
+
     private final LessonService lessonService;
-    private final UserService userService;
 
-    public LessonController(LessonService lessonService, UserService userService) {
+    public LessonController(LessonService lessonService) {
         this.lessonService = lessonService;
-        this.userService = userService;
     }
 
     // Get all lessons (for students) - showing both published and unpublished
     @GetMapping
-    public ResponseEntity<List<Lesson>> getAllLessons() {
-        System.out.println("GET /api/lessons - Accessing lessons endpoint");
-        List<Lesson> lessons = lessonService.getAllLessons();
-        System.out.println("Found " + lessons.size() + " total lessons");
-        
-        // Debug: Print details of each lesson
-        for (Lesson lesson : lessons) {
-            System.out.println("Lesson ID: " + lesson.getId() + 
-                             ", Title: " + lesson.getTitle() + 
-                             ", Published: " + lesson.isPublished() + 
-                             ", Instructor: " + (lesson.getInstructor() != null ? lesson.getInstructor().getUsername() : "null"));
-        }
-        
-        return ResponseEntity.ok(lessons);
+    @QueryBudget(1)
+    public ResponseEntity<List<LessonSummary>> getAllLessons(WebRequest request) {
+        return ETags.conditional(request, ETags.lessons(lessonService.getCatalogVersion()), false,
+                () -> ResponseEntity.ok(lessonService.getAllLessons()));
     }
 
     // Get lessons by category (for students)
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<Lesson>> getLessonsByCategory(@PathVariable LessonCategory category) {
-        List<Lesson> lessons = lessonService.getLessonsByCategory(category);
-        return ResponseEntity.ok(lessons);
+    @QueryBudget(1)
+    public ResponseEntity<List<LessonSummary>> getLessonsByCategory(@PathVariable LessonCategory category, WebRequest request) {
+        return ETags.conditional(request, ETags.lessons(lessonService.getCatalogVersion()), false,
+                () -> ResponseEntity.ok(lessonService.getLessonsByCategory(category)));
     }
 
     // Get lessons by level (for students)
     @GetMapping("/level/{level}")
-    public ResponseEntity<List<Lesson>> getLessonsByLevel(@PathVariable LessonLevel level) {
-        List<Lesson> lessons = lessonService.getLessonsByLevel(level);
-        return ResponseEntity.ok(lessons);
+    @QueryBudget(1)
+    public ResponseEntity<List<LessonSummary>> getLessonsByLevel(@PathVariable LessonLevel level, WebRequest request) {
+        return ETags.conditional(request, ETags.lessons(lessonService.getCatalogVersion()), false,
+                () -> ResponseEntity.ok(lessonService.getLessonsByLevel(level)));
     }
 
-    // Get lesson by ID (for students)
+    // Search published lessons by title, description and content (for students)
+    @GetMapping("/search")
+    @QueryBudget(0)
+    public ResponseEntity<List<LessonSummary>> searchLessons(@RequestParam(defaultValue = "") String q,
+                                                             @RequestParam(defaultValue = "20") int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+        return ResponseEntity.ok(lessonService.searchLessons(q, boundedLimit));
+    }
+
+    // Get lesson by ID (for students) - the full body; list endpoints return summaries
     @GetMapping("/{id}")
-    public ResponseEntity<Lesson> getLessonById(@PathVariable Long id) {
-        Optional<Lesson> lesson = lessonService.getLessonById(id);
-        if (lesson.isPresent() && lesson.get().isPublished()) {
-            return ResponseEntity.ok(lesson.get());
-        }
-        return ResponseEntity.notFound().build();
+    @QueryBudget(1)
+    public ResponseEntity<Lesson> getLessonById(@PathVariable Long id, WebRequest request) {
+        return ETags.conditional(request, ETags.lessons(lessonService.getCatalogVersion()), false, () -> {
+            Optional<Lesson> lesson = lessonService.getLessonById(id);
+            if (lesson.isPresent() && lesson.get().isPublished()) {
+                return ResponseEntity.ok(lesson.get());
+            }
+            return ResponseEntity.notFound().build();
+        });
     }
 
     // Instructor endpoints
     @PostMapping
-    public ResponseEntity<Lesson> createLesson(@RequestBody Lesson lesson) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        User user = userService.findByUsername(username).orElse(null);
-        
-        if (user == null || user.getRole() != UserRole.INSTRUCTOR) {
-            return ResponseEntity.status(403).build();
-        }
-        
-        lesson.setInstructor(user);
-        Lesson createdLesson = lessonService.createLesson(lesson);
+    @QueryBudget(2)
+    @RequireRole(UserRole.INSTRUCTOR)
+    public ResponseEntity<Lesson> createLesson(@RequestBody Lesson lesson, @CurrentUser User user) {
+        Lesson createdLesson = lessonService.createLesson(lesson, user);
         return ResponseEntity.ok(createdLesson);
     }
 
     @GetMapping("/instructor")
-    public ResponseEntity<List<Lesson>> getInstructorLessons() {
-        System.out.println("GET /api/lessons/instructor - Accessing instructor lessons endpoint");
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        System.out.println("Authenticated username: " + username);
-        User user = userService.findByUsername(username).orElse(null);
-        
-        if (user == null) {
-            System.out.println("User not found for username: " + username);
-            return ResponseEntity.status(403).build();
-        }
-        
-        System.out.println("User role: " + user.getRole());
-        if (user.getRole() != UserRole.INSTRUCTOR) {
-            System.out.println("User is not an instructor");
-            return ResponseEntity.status(403).build();
-        }
-        
-        List<Lesson> lessons = lessonService.getLessonsByInstructor(user);
-        System.out.println("Found " + lessons.size() + " lessons for instructor");
-        return ResponseEntity.ok(lessons);
+    @QueryBudget(1)
+    @RequireRole(UserRole.INSTRUCTOR)
+    public ResponseEntity<List<LessonSummary>> getInstructorLessons(@CurrentUser User user, WebRequest request) {
+        return ETags.conditional(request, ETags.instructorLessons(user.getId(), lessonService.getCatalogVersion()),
+                true, () -> ResponseEntity.ok(lessonService.getLessonsByInstructor(user)));
+    }
+
+    // Full lesson, published or not, for the instructor who owns it
+    @GetMapping("/instructor/{id}")
+    @QueryBudget(1)
+    @RequireRole(UserRole.INSTRUCTOR)
+    public ResponseEntity<Lesson> getInstructorLesson(@PathVariable Long id, @CurrentUser User user,
+                                                      WebRequest request) {
+        return ETags.conditional(request, ETags.instructorLessons(user.getId(), lessonService.getCatalogVersion()),
+                true, () -> {
+            Optional<Lesson> lesson = lessonService.getLessonById(id);
+            if (lesson.isPresent() && lesson.get().getInstructor().getId().equals(user.getId())) {
+                return ResponseEntity.ok(lesson.get());
+            }
+            return ResponseEntity.notFound().build();
+        });
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Lesson> updateLesson(@PathVariable Long id, @RequestBody Lesson lesson) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        User user = userService.findByUsername(username).orElse(null);
-        
-        if (user == null || user.getRole() != UserRole.INSTRUCTOR) {
-            return ResponseEntity.status(403).build();
-        }
-        
-        Optional<Lesson> existingLesson = lessonService.getLessonById(id);
-        if (existingLesson.isPresent() && existingLesson.get().getInstructor().getId().equals(user.getId())) {
-            lesson.setId(id);
-            lesson.setInstructor(user);
-            Lesson updatedLesson = lessonService.updateLesson(lesson);
-            return ResponseEntity.ok(updatedLesson);
-        }
-        return ResponseEntity.notFound().build();
+    @QueryBudget(2)
+    @RequireRole(UserRole.INSTRUCTOR)
+    public ResponseEntity<Lesson> updateLesson(@PathVariable Long id, @RequestBody Lesson lesson,
+                                               @CurrentUser User user) {
+        return ResponseEntity.of(lessonService.updateLesson(id, lesson, user));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteLesson(@PathVariable Long id) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        User user = userService.findByUsername(username).orElse(null);
-        
-        if (user == null || user.getRole() != UserRole.INSTRUCTOR) {
-            return ResponseEntity.status(403).build();
-        }
-        
-        Optional<Lesson> lesson = lessonService.getLessonById(id);
-        if (lesson.isPresent() && lesson.get().getInstructor().getId().equals(user.getId())) {
-            lessonService.deleteLesson(id);
+    @QueryBudget(2)
+    @RequireRole(UserRole.INSTRUCTOR)
+    public ResponseEntity<Void> deleteLesson(@PathVariable Long id, @CurrentUser User user) {
+        if (lessonService.deleteLesson(id, user)) {
             return ResponseEntity.ok().build();
         }
         return ResponseEntity.notFound().build();
     }
 
     @PostMapping("/{id}/publish")
-    public ResponseEntity<Lesson> publishLesson(@PathVariable Long id) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        User user = userService.findByUsername(username).orElse(null);
-        
-        if (user == null || user.getRole() != UserRole.INSTRUCTOR) {
-            return ResponseEntity.status(403).build();
-        }
-        
-        Optional<Lesson> lesson = lessonService.getLessonById(id);
-        if (lesson.isPresent() && lesson.get().getInstructor().getId().equals(user.getId())) {
-            Lesson publishedLesson = lessonService.publishLesson(id);
-            return ResponseEntity.ok(publishedLesson);
-        }
-        return ResponseEntity.notFound().build();
+    @QueryBudget(2)
+    @RequireRole(UserRole.INSTRUCTOR)
+    public ResponseEntity<Lesson> publishLesson(@PathVariable Long id, @CurrentUser User user) {
+        return ResponseEntity.of(lessonService.publishLesson(id, user));
     }
 
     @PostMapping("/{id}/unpublish")
-    public ResponseEntity<Lesson> unpublishLesson(@PathVariable Long id) {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String username = authentication.getName();
-        User user = userService.findByUsername(username).orElse(null);
-        
-        if (user == null || user.getRole() != UserRole.INSTRUCTOR) {
-            return ResponseEntity.status(403).build();
-        }
-        
-        Optional<Lesson> lesson = lessonService.getLessonById(id);
-        if (lesson.isPresent() && lesson.get().getInstructor().getId().equals(user.getId())) {
-            Lesson unpublishedLesson = lessonService.unpublishLesson(id);
-            return ResponseEntity.ok(unpublishedLesson);
-        }
-        return ResponseEntity.notFound().build();
+    @QueryBudget(2)
+    @RequireRole(UserRole.INSTRUCTOR)
+    public ResponseEntity<Lesson> unpublishLesson(@PathVariable Long id, @CurrentUser User user) {
+        return ResponseEntity.of(lessonService.unpublishLesson(id, user));
     }
 
     // Test endpoint to check if the controller is accessible
     @GetMapping("/test")
+    @QueryBudget(0)
     public ResponseEntity<String> test() {
-        System.out.println("GET /api/lessons/test - Test endpoint accessed");
         return ResponseEntity.ok("Lessons controller is working!");
     }
     
     // Simple public test endpoint
     @GetMapping("/public-test")
+    @QueryBudget(0)
     public ResponseEntity<String> publicTest() {
-        System.out.println("GET /api/lessons/public-test - Public test endpoint accessed");
         return ResponseEntity.ok("Public lessons endpoint is working!");
     }
     
     // Debug endpoint to check database state
     @GetMapping("/debug")
+    @QueryBudget(2)
     public ResponseEntity<String> debug() {
-        System.out.println("GET /api/lessons/debug - Debug endpoint accessed");
         
         long totalLessons = lessonService.getAllLessons().size();
         long publishedLessons = lessonService.getAllPublishedLessons().size();
@@ -214,7 +171,6 @@ public class LessonController {
             totalLessons, publishedLessons, totalLessons - publishedLessons
         );
         
-        System.out.println(debugInfo);
         return ResponseEntity.ok(debugInfo);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,69 @@
+package com.golfdiary.backend.controller;
+
+import com.golfdiary.backend.diagnostics.QueryBudget;
+import com.golfdiary.backend.dto.ShotBatchResponse;
+import com.golfdiary.backend.dto.ShotRequest;
+import com.golfdiary.backend.entity.GolfRound;
+import com.golfdiary.backend.entity.Shot;
+import com.golfdiary.backend.entity.User;
+import com.golfdiary.backend.security.CurrentUser;
+import com.golfdiary.backend.service.GolfRoundService;
+import com.golfdiary.backend.service.ShotService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+
+@RestController
+@RequestMapping("/api/golf-rounds/{roundId}/shots")
+@CrossOrigin(origins = "http://localhost:3000")
+public class ShotController {
+
+    private final ShotService shotService;
+    private final GolfRoundService golfRoundService;
+
+    public ShotController(ShotService shotService, GolfRoundService golfRoundService) {
+        this.shotService = shotService;
+        this.golfRoundService = golfRoundService;
+    }
+
+    // 202: the shots are logged locally and written to the database by the next flush. Resending a
+    // batch with the same Idempotency-Key stores its shots once
+    @PostMapping
+    @QueryBudget(1)
+    public ResponseEntity<ShotBatchResponse> addShots(@PathVariable Long roundId, @RequestBody List<ShotRequest> shots,
+                                                      @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+                                                      @CurrentUser User currentUser) {
+        if (!isOwnRound(roundId, currentUser)) {
+            return ResponseEntity.notFound().build();
+        }
+        try {
+            int accepted = shotService.accept(currentUser.getId(), roundId, idempotencyKey, shots);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(new ShotBatchResponse(accepted, "Shots accepted"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(new ShotBatchResponse(0, e.getMessage()));
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(shotService.getRetryAfterSeconds()))
+                    .body(new ShotBatchResponse(0, "Too many shots waiting to be stored, please retry shortly"));
+        }
+    }
+
+    @GetMapping
+    @QueryBudget(2)
+    public ResponseEntity<List<Shot>> getShots(@PathVariable Long roundId, @CurrentUser User currentUser) {
+        if (!isOwnRound(roundId, currentUser)) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(shotService.getShotsByRound(roundId));
+    }
+
+    private boolean isOwnRound(Long roundId, User currentUser) {
+        Optional<GolfRound> round = golfRoundService.getRoundById(roundId);
+        return round.isPresent() && round.get().getUser().getId().equals(currentUser.getId());
+    }
+}
@@ -0,0 +1,16 @@
+package com.golfdiary.backend.diagnostics;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements a request to this endpoint may issue through Hibernate.
+ * Checked by the MockMvc tests under src/test, which fail the build when an endpoint goes over.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+    int value();
+}
@@ -0,0 +1,49 @@
+package com.golfdiary.backend.dto;
+
+public class AvailabilityResponse {
+    private String username;
+    private Boolean usernameAvailable;
+    private String email;
+    private Boolean emailAvailable;
+
+    public AvailabilityResponse() {}
+
+    public AvailabilityResponse(String username, Boolean usernameAvailable, String email, Boolean emailAvailable) {
+        this.username = username;
+        this.usernameAvailable = usernameAvailable;
+        this.email = email;
+        this.emailAvailable = emailAvailable;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public Boolean getUsernameAvailable() {
+        return usernameAvailable;
+    }
+
+    public void setUsernameAvailable(Boolean usernameAvailable) {
+        this.usernameAvailable = usernameAvailable;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public Boolean getEmailAvailable() {
+        return emailAvailable;
+    }
+
+    public void setEmailAvailable(Boolean emailAvailable) {
+        this.emailAvailable = emailAvailable;
+    }
+}
@@ -0,0 +1,41 @@
+package com.golfdiary.backend.dto;
+
+public class HandicapSummary {
+    private Double handicapIndex;
+    private int roundsInWindow;
+    private int differentialsUsed;
+
+    // Constructors
+    public HandicapSummary() {}
+
+    public HandicapSummary(Double handicapIndex, int roundsInWindow, int differentialsUsed) {
+        this.handicapIndex = handicapIndex;
+        this.roundsInWindow = roundsInWindow;
+        this.differentialsUsed = differentialsUsed;
+    }
+
+    // Getters and Setters
+    public Double getHandicapIndex() {
+        return handicapIndex;
+    }
+
+    public void setHandicapIndex(Double handicapIndex) {
+        this.handicapIndex = handicapIndex;
+    }
+
+    public int getRoundsInWindow() {
+        return roundsInWindow;
+    }
+
+    public void setRoundsInWindow(int roundsInWindow) {
+        this.roundsInWindow = roundsInWindow;
+    }
+
+    public int getDifferentialsUsed() {
+        return differentialsUsed;
+    }
+
+    public void setDifferentialsUsed(int differentialsUsed) {
+        this.differentialsUsed = differentialsUsed;
+    }
+}
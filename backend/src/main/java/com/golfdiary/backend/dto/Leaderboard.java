@@ -0,0 +1,54 @@
+package com.golfdiary.backend.dto;
+
+import java.util.List;
+
+public class Leaderboard {
+    private String courseName;
+    // Null for the all-time board
+    private Integer season;
+    private String metric;
+    private List<LeaderboardEntry> entries;
+
+    // Constructors
+    public Leaderboard() {}
+
+    public Leaderboard(String courseName, Integer season, String metric, List<LeaderboardEntry> entries) {
+        this.courseName = courseName;
+        this.season = season;
+        this.metric = metric;
+        this.entries = entries;
+    }
+
+    // Getters and Setters
+    public String getCourseName() {
+        return courseName;
+    }
+
+    public void setCourseName(String courseName) {
+        this.courseName = courseName;
+    }
+
+    public Integer getSeason() {
+        return season;
+    }
+
+    public void setSeason(Integer season) {
+        this.season = season;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    public List<LeaderboardEntry> getEntries() {
+        return entries;
+    }
+
+    public void setEntries(List<LeaderboardEntry> entries) {
+        this.entries = entries;
+    }
+}
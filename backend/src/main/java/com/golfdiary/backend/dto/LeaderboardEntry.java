@@ -0,0 +1,95 @@
+package com.golfdiary.backend.dto;
+
+import java.time.LocalDateTime;
+
+public class LeaderboardEntry {
+    private int rank;
+    private Long roundId;
+    private Long userId;
+    private String username;
+    private LocalDateTime roundDate;
+    private Integer totalScore;
+    private Integer par;
+    // The ranked value: totalScore on gross boards, totalScore - par on to-par boards
+    private int score;
+
+    // Constructors
+    public LeaderboardEntry() {}
+
+    public LeaderboardEntry(int rank, Long roundId, Long userId, String username, LocalDateTime roundDate,
+                            Integer totalScore, Integer par, int score) {
+        this.rank = rank;
+        this.roundId = roundId;
+        this.userId = userId;
+        this.username = username;
+        this.roundDate = roundDate;
+        this.totalScore = totalScore;
+        this.par = par;
+        this.score = score;
+    }
+
+    // Getters and Setters
+    public int getRank() {
+        return rank;
+    }
+
+    public void setRank(int rank) {
+        this.rank = rank;
+    }
+
+    public Long getRoundId() {
+        return roundId;
+    }
+
+    public void setRoundId(Long roundId) {
+        this.roundId = roundId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public LocalDateTime getRoundDate() {
+        return roundDate;
+    }
+
+    public void setRoundDate(LocalDateTime roundDate) {
+        this.roundDate = roundDate;
+    }
+
+    public Integer getTotalScore() {
+        return totalScore;
+    }
+
+    public void setTotalScore(Integer totalScore) {
+        this.totalScore = totalScore;
+    }
+
+    public Integer getPar() {
+        return par;
+    }
+
+    public void setPar(Integer par) {
+        this.par = par;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public void setScore(int score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,108 @@
+package com.golfdiary.backend.dto;
+
+import com.golfdiary.backend.entity.LessonCategory;
+import com.golfdiary.backend.entity.LessonLevel;
+
+import java.time.LocalDateTime;
+
+/**
+ * List view of a lesson without the description/content bodies. Built directly by JPQL
+ * constructor expressions, so the TEXT columns are never selected and no instructor proxy is created.
+ */
+public class LessonSummary {
+    private Long id;
+    private String title;
+    private LessonCategory category;
+    private LessonLevel level;
+    private boolean published;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private String instructorName;
+
+    // Constructors
+    public LessonSummary() {}
+
+    public LessonSummary(Long id, String title, LessonCategory category, LessonLevel level, boolean published,
+                         LocalDateTime createdAt, LocalDateTime updatedAt,
+                         String instructorFirstName, String instructorLastName, String instructorUsername) {
+        this.id = id;
+        this.title = title;
+        this.category = category;
+        this.level = level;
+        this.published = published;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.instructorName = displayName(instructorFirstName, instructorLastName, instructorUsername);
+    }
+
+    // Full name when the instructor has one, otherwise the username
+    private static String displayName(String firstName, String lastName, String username) {
+        String fullName = ((firstName != null ? firstName : "") + " " + (lastName != null ? lastName : "")).trim();
+        return fullName.isEmpty() ? username : fullName;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public LessonCategory getCategory() {
+        return category;
+    }
+
+    public void setCategory(LessonCategory category) {
+        this.category = category;
+    }
+
+    public LessonLevel getLevel() {
+        return level;
+    }
+
+    public void setLevel(LessonLevel level) {
+        this.level = level;
+    }
+
+    public boolean isPublished() {
+        return published;
+    }
+
+    public void setPublished(boolean published) {
+        this.published = published;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public String getInstructorName() {
+        return instructorName;
+    }
+
+    public void setInstructorName(String instructorName) {
+        this.instructorName = instructorName;
+    }
+}
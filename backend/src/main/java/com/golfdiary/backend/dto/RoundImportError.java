@@ -0,0 +1,31 @@
+package com.golfdiary.backend.dto;
+
+public class RoundImportError {
+    private int row;
+    private String message;
+
+    // Constructors
+    public RoundImportError() {}
+
+    public RoundImportError(int row, String message) {
+        this.row = row;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public int getRow() {
+        return row;
+    }
+
+    public void setRow(int row) {
+        this.row = row;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,47 @@
+package com.golfdiary.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RoundImportResult {
+    private int imported;
+    private int rejected;
+    private List<RoundImportError> errors = new ArrayList<>();
+    private boolean errorsTruncated;
+
+    // Constructors
+    public RoundImportResult() {}
+
+    // Getters and Setters
+    public int getImported() {
+        return imported;
+    }
+
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<RoundImportError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RoundImportError> errors) {
+        this.errors = errors;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public void setErrorsTruncated(boolean errorsTruncated) {
+        this.errorsTruncated = errorsTruncated;
+    }
+}
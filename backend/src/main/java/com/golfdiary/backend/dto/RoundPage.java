@@ -0,0 +1,45 @@
+package com.golfdiary.backend.dto;
+
+import com.golfdiary.backend.entity.GolfRound;
+
+import java.util.List;
+
+public class RoundPage {
+    private List<GolfRound> items;
+    private String nextCursor;
+    private int size;
+
+    // Constructors
+    public RoundPage() {}
+
+    public RoundPage(List<GolfRound> items, String nextCursor, int size) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.size = size;
+    }
+
+    // Getters and Setters
+    public List<GolfRound> getItems() {
+        return items;
+    }
+
+    public void setItems(List<GolfRound> items) {
+        this.items = items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+}
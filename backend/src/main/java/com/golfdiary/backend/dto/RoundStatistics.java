@@ -0,0 +1,155 @@
+package com.golfdiary.backend.dto;
+
+/**
+ * Scoring statistics aggregated in the database by a single JPQL constructor-expression query.
+ */
+public class RoundStatistics {
+    private long roundCount;
+    private Double scoringAverage;
+    private Double averageOverPar;
+    private long birdies;
+    private long pars;
+    private long bogeys;
+    private long doubleBogeys;
+    private long other;
+    private Integer bestScore;
+    private Integer worstScore;
+    private Double scoreStandardDeviation;
+
+    // Constructors
+    public RoundStatistics() {}
+
+    public RoundStatistics(Long roundCount, Double scoringAverage, Double averageOverPar,
+                           Long birdies, Long pars, Long bogeys, Long doubleBogeys, Long other,
+                           Integer bestScore, Integer worstScore) {
+        this.roundCount = roundCount != null ? roundCount : 0;
+        this.scoringAverage = scoringAverage;
+        this.averageOverPar = averageOverPar;
+        this.birdies = birdies != null ? birdies : 0;
+        this.pars = pars != null ? pars : 0;
+        this.bogeys = bogeys != null ? bogeys : 0;
+        this.doubleBogeys = doubleBogeys != null ? doubleBogeys : 0;
+        this.other = other != null ? other : 0;
+        this.bestScore = bestScore;
+        this.worstScore = worstScore;
+    }
+
+    // Rates are per recorded hole across all categories
+    public long getTotalHoles() {
+        return birdies + pars + bogeys + doubleBogeys + other;
+    }
+
+    public Double getBirdieRate() {
+        return rate(birdies);
+    }
+
+    public Double getParRate() {
+        return rate(pars);
+    }
+
+    public Double getBogeyRate() {
+        return rate(bogeys);
+    }
+
+    public Double getDoubleBogeyRate() {
+        return rate(doubleBogeys);
+    }
+
+    public Double getOtherRate() {
+        return rate(other);
+    }
+
+    private Double rate(long count) {
+        long total = getTotalHoles();
+        return total == 0 ? null : (double) count / total;
+    }
+
+    // Getters and Setters
+    public long getRoundCount() {
+        return roundCount;
+    }
+
+    public void setRoundCount(long roundCount) {
+        this.roundCount = roundCount;
+    }
+
+    public Double getScoringAverage() {
+        return scoringAverage;
+    }
+
+    public void setScoringAverage(Double scoringAverage) {
+        this.scoringAverage = scoringAverage;
+    }
+
+    public Double getAverageOverPar() {
+        return averageOverPar;
+    }
+
+    public void setAverageOverPar(Double averageOverPar) {
+        this.averageOverPar = averageOverPar;
+    }
+
+    public long getBirdies() {
+        return birdies;
+    }
+
+    public void setBirdies(long birdies) {
+        this.birdies = birdies;
+    }
+
+    public long getPars() {
+        return pars;
+    }
+
+    public void setPars(long pars) {
+        this.pars = pars;
+    }
+
+    public long getBogeys() {
+        return bogeys;
+    }
+
+    public void setBogeys(long bogeys) {
+        this.bogeys = bogeys;
+    }
+
+    public long getDoubleBogeys() {
+        return doubleBogeys;
+    }
+
+    public void setDoubleBogeys(long doubleBogeys) {
+        this.doubleBogeys = doubleBogeys;
+    }
+
+    public long getOther() {
+        return other;
+    }
+
+    public void setOther(long other) {
+        this.other = other;
+    }
+
+    public Integer getBestScore() {
+        return bestScore;
+    }
+
+    public void setBestScore(Integer bestScore) {
+        this.bestScore = bestScore;
+    }
+
+    public Integer getWorstScore() {
+        return worstScore;
+    }
+
+    public void setWorstScore(Integer worstScore) {
+        this.worstScore = worstScore;
+    }
+
+    public Double getScoreStandardDeviation() {
+        return scoreStandardDeviation;
+    }
+
+    public void setScoreStandardDeviation(Double scoreStandardDeviation) {
+        this.scoreStandardDeviation = scoreStandardDeviation;
+    }
+}
@@ -0,0 +1,54 @@
+package com.golfdiary.backend.dto;
+
+import java.util.List;
+
+public class RoundTrend {
+    // Exactly one of window (rolling, in rounds) and bucket (week or month) is set
+    private Integer window;
+    private String bucket;
+    private String courseName;
+    private List<TrendPoint> points;
+
+    // Constructors
+    public RoundTrend() {}
+
+    public RoundTrend(Integer window, String bucket, String courseName, List<TrendPoint> points) {
+        this.window = window;
+        this.bucket = bucket;
+        this.courseName = courseName;
+        this.points = points;
+    }
+
+    // Getters and Setters
+    public Integer getWindow() {
+        return window;
+    }
+
+    public void setWindow(Integer window) {
+        this.window = window;
+    }
+
+    public String getBucket() {
+        return bucket;
+    }
+
+    public void setBucket(String bucket) {
+        this.bucket = bucket;
+    }
+
+    public String getCourseName() {
+        return courseName;
+    }
+
+    public void setCourseName(String courseName) {
+        this.courseName = courseName;
+    }
+
+    public List<TrendPoint> getPoints() {
+        return points;
+    }
+
+    public void setPoints(List<TrendPoint> points) {
+        this.points = points;
+    }
+}
@@ -0,0 +1,31 @@
+package com.golfdiary.backend.dto;
+
+public class ShotBatchResponse {
+    private int accepted;
+    private String message;
+
+    // Constructors
+    public ShotBatchResponse() {}
+
+    public ShotBatchResponse(int accepted, String message) {
+        this.accepted = accepted;
+        this.message = message;
+    }
+
+    // Getters and Setters
+    public int getAccepted() {
+        return accepted;
+    }
+
+    public void setAccepted(int accepted) {
+        this.accepted = accepted;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
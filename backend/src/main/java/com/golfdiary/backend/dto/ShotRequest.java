@@ -0,0 +1,82 @@
+package com.golfdiary.backend.dto;
+
+import com.golfdiary.backend.entity.ShotLocation;
+
+import java.time.LocalDateTime;
+
+public class ShotRequest {
+    // Optional; a shot sent again with the same eventId is stored once
+    private String eventId;
+    private Integer hole;
+    private Integer shotNumber;
+    private String club;
+    private Integer distance;
+    private ShotLocation lie;
+    private ShotLocation result;
+    private LocalDateTime recordedAt;
+
+    // Getters and Setters
+    public String getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+
+    public Integer getHole() {
+        return hole;
+    }
+
+    public void setHole(Integer hole) {
+        this.hole = hole;
+    }
+
+    public Integer getShotNumber() {
+        return shotNumber;
+    }
+
+    public void setShotNumber(Integer shotNumber) {
+        this.shotNumber = shotNumber;
+    }
+
+    public String getClub() {
+        return club;
+    }
+
+    public void setClub(String club) {
+        this.club = club;
+    }
+
+    public Integer getDistance() {
+        return distance;
+    }
+
+    public void setDistance(Integer distance) {
+        this.distance = distance;
+    }
+
+    public ShotLocation getLie() {
+        return lie;
+    }
+
+    public void setLie(ShotLocation lie) {
+        this.lie = lie;
+    }
+
+    public ShotLocation getResult() {
+        return result;
+    }
+
+    public void setResult(ShotLocation result) {
+        this.result = result;
+    }
+
+    public LocalDateTime getRecordedAt() {
+        return recordedAt;
+    }
+
+    public void setRecordedAt(LocalDateTime recordedAt) {
+        this.recordedAt = recordedAt;
+    }
+}
@@ -0,0 +1,88 @@
+package com.golfdiary.backend.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * One point of a score trend: a round with the moving average ending at it, or a week/month bucket
+ * with the average of its rounds. {@code rounds} is how many scored rounds the averages cover.
+ */
+public class TrendPoint {
+    private LocalDateTime date;
+    private Long roundId;
+    private Integer totalScore;
+    private Integer scoreToPar;
+    private int rounds;
+    private Double averageScore;
+    private Double averageToPar;
+
+    // Constructors
+    public TrendPoint() {}
+
+    public TrendPoint(LocalDateTime date, Long roundId, Integer totalScore, Integer scoreToPar, int rounds,
+                      Double averageScore, Double averageToPar) {
+        this.date = date;
+        this.roundId = roundId;
+        this.totalScore = totalScore;
+        this.scoreToPar = scoreToPar;
+        this.rounds = rounds;
+        this.averageScore = averageScore;
+        this.averageToPar = averageToPar;
+    }
+
+    // Getters and Setters
+    public LocalDateTime getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDateTime date) {
+        this.date = date;
+    }
+
+    public Long getRoundId() {
+        return roundId;
+    }
+
+    public void setRoundId(Long roundId) {
+        this.roundId = roundId;
+    }
+
+    public Integer getTotalScore() {
+        return totalScore;
+    }
+
+    public void setTotalScore(Integer totalScore) {
+        this.totalScore = totalScore;
+    }
+
+    public Integer getScoreToPar() {
+        return scoreToPar;
+    }
+
+    public void setScoreToPar(Integer scoreToPar) {
+        this.scoreToPar = scoreToPar;
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    public void setRounds(int rounds) {
+        this.rounds = rounds;
+    }
+
+    public Double getAverageScore() {
+        return averageScore;
+    }
+
+    public void setAverageScore(Double averageScore) {
+        this.averageScore = averageScore;
+    }
+
+    public Double getAverageToPar() {
+        return averageToPar;
+    }
+
+    public void setAverageToPar(Double averageToPar) {
+        this.averageToPar = averageToPar;
+    }
+}
@@ -0,0 +1,108 @@
+package com.golfdiary.backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * A golf course that rounds point at by id. {@code nameKey} is the normalized name (trimmed,
+ * whitespace collapsed, lower case), so "Pebble Beach" and "pebble  beach " are the same course;
+ * {@code name} keeps the spelling the course was first recorded with. The integer key keeps the
+ * foreign key and the per-course indexes on golf_rounds compact.
+ */
+@Entity
+@Table(name = "courses", indexes = {
+    @Index(name = "uk_courses_name_key", columnList = "name_key", unique = true)
+})
+public class Course {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(name = "name_key", nullable = false)
+    private String nameKey;
+
+    // Taken from the first round recorded on the course that has them
+    private Integer par;
+    private Double courseRating;
+    private Integer slopeRating;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public Course() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Course(String name) {
+        this();
+        this.name = name.trim().replaceAll("\\s+", " ");
+        this.nameKey = normalize(name);
+    }
+
+    public static String normalize(String name) {
+        return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getNameKey() {
+        return nameKey;
+    }
+
+    public void setNameKey(String nameKey) {
+        this.nameKey = nameKey;
+    }
+
+    public Integer getPar() {
+        return par;
+    }
+
+    public void setPar(Integer par) {
+        this.par = par;
+    }
+
+    public Double getCourseRating() {
+        return courseRating;
+    }
+
+    public void setCourseRating(Double courseRating) {
+        this.courseRating = courseRating;
+    }
+
+    public Integer getSlopeRating() {
+        return slopeRating;
+    }
+
+    public void setSlopeRating(Integer slopeRating) {
+        this.slopeRating = slopeRating;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
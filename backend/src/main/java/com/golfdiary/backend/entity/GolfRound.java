@@ -1,11 +1,19 @@
 package com.golfdiary.backend.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "golf_rounds")
+@Table(name = "golf_rounds", indexes = {
+    @Index(name = "idx_golf_rounds_user_date", columnList = "user_id, round_date, id"),
+    @Index(name = "idx_golf_rounds_user_course", columnList = "user_id, course_id, round_date, id"),
+    // Not idx_golf_rounds_course_score: that name was used for (course_name, total_score), and schema
+    // updates match indexes by name
+    @Index(name = "idx_golf_rounds_course_id_score", columnList = "course_id, total_score")
+})
 public class GolfRound {
     
     @Id
@@ -14,8 +22,16 @@ public class GolfRound {
     
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
+    @JsonIgnore
     private User user;
     
+    // Per-course queries go through the course id; courseName is the course's name, copied here on
+    // write so round lists and exports need no join
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "course_id")
+    @JsonIgnore
+    private Course course;
+    
     @NotNull
     private String courseName;
     
@@ -30,6 +46,16 @@ public class GolfRound {
     private Integer doubleBogeys;
     private Integer other;
     
+    // Course handicap inputs; the differential is derived from them on write
+    private Double courseRating;
+    private Integer slopeRating;
+    private Double scoreDifferential;
+    
+    // Optional hole-by-hole card; when present the totals and category counts are derived from it
+    @Convert(converter = ScorecardConverter.class)
+    @Column(name = "scorecard", length = Scorecard.MAX_BYTES)
+    private Scorecard scorecard;
+    
     private String weather;
     private String notes;
     
@@ -62,6 +88,20 @@ public class GolfRound {
         this.user = user;
     }
     
+    public Course getCourse() {
+        return course;
+    }
+    
+    public void setCourse(Course course) {
+        this.course = course;
+    }
+    
+    // Reading the id does not initialize the lazy course
+    @JsonProperty(value = "courseId", access = JsonProperty.Access.READ_ONLY)
+    public Integer getCourseId() {
+        return course != null ? course.getId() : null;
+    }
+    
     public String getCourseName() {
         return courseName;
     }
@@ -134,6 +174,81 @@ public class GolfRound {
         this.other = other;
     }
     
+    public Double getCourseRating() {
+        return courseRating;
+    }
+    
+    public void setCourseRating(Double courseRating) {
+        this.courseRating = courseRating;
+    }
+    
+    public Integer getSlopeRating() {
+        return slopeRating;
+    }
+    
+    public void setSlopeRating(Integer slopeRating) {
+        this.slopeRating = slopeRating;
+    }
+    
+    public Double getScoreDifferential() {
+        return scoreDifferential;
+    }
+    
+    public void setScoreDifferential(Double scoreDifferential) {
+        this.scoreDifferential = scoreDifferential;
+    }
+    
+    public Scorecard getScorecard() {
+        return scorecard;
+    }
+    
+    public void setScorecard(Scorecard scorecard) {
+        this.scorecard = scorecard;
+    }
+    
+    // Overwrites totalScore, par and the per-hole category counts from the scorecard, if there is one
+    public void applyScorecard() {
+        if (scorecard == null) {
+            return;
+        }
+        int birdieCount = 0, parCount = 0, bogeyCount = 0, doubleBogeyCount = 0, otherCount = 0;
+        for (int hole = 0; hole < scorecard.getHoleCount(); hole++) {
+            int toPar = scorecard.strokes(hole) - scorecard.par(hole);
+            // Eagles and better count as birdies, triple bogeys and worse as other
+            if (toPar < 0) {
+                birdieCount++;
+            } else if (toPar == 0) {
+                parCount++;
+            } else if (toPar == 1) {
+                bogeyCount++;
+            } else if (toPar == 2) {
+                doubleBogeyCount++;
+            } else {
+                otherCount++;
+            }
+        }
+        this.totalScore = scorecard.totalStrokes();
+        this.par = scorecard.totalPar();
+        this.birdies = birdieCount;
+        this.pars = parCount;
+        this.bogeys = bogeyCount;
+        this.doubleBogeys = doubleBogeyCount;
+        this.other = otherCount;
+    }
+    
+    // WHS score differential: (113 / slope) x (score - course rating), rounded to one decimal
+    // Ratings are for 18 holes, so a round scored from a shorter card gets no differential and stays
+    // out of the handicap index
+    public void recalculateScoreDifferential() {
+        if (totalScore == null || courseRating == null || slopeRating == null || slopeRating <= 0
+                || (scorecard != null && scorecard.getHoleCount() != Scorecard.MAX_HOLES)) {
+            this.scoreDifferential = null;
+            return;
+        }
+        double differential = (113.0 / slopeRating) * (totalScore - courseRating);
+        this.scoreDifferential = Math.round(differential * 10) / 10.0;
+    }
+    
     public String getWeather() {
         return weather;
     }
@@ -0,0 +1,82 @@
+package com.golfdiary.backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One point in a user's handicap index history, recorded whenever a round write changes the index.
+ */
+@Entity
+@Table(name = "handicap_history", indexes = {
+    @Index(name = "idx_handicap_history_user", columnList = "user_id, computed_at, id")
+})
+public class HandicapHistory {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    // Null while the user has fewer than three rounds with a differential
+    private Double handicapIndex;
+    
+    private int roundsCounted;
+    
+    @Column(name = "computed_at")
+    private LocalDateTime computedAt;
+    
+    // Constructors
+    public HandicapHistory() {
+        this.computedAt = LocalDateTime.now();
+    }
+    
+    public HandicapHistory(Long userId, Double handicapIndex, int roundsCounted) {
+        this();
+        this.userId = userId;
+        this.handicapIndex = handicapIndex;
+        this.roundsCounted = roundsCounted;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+    
+    public Double getHandicapIndex() {
+        return handicapIndex;
+    }
+    
+    public void setHandicapIndex(Double handicapIndex) {
+        this.handicapIndex = handicapIndex;
+    }
+    
+    public int getRoundsCounted() {
+        return roundsCounted;
+    }
+    
+    public void setRoundsCounted(int roundsCounted) {
+        this.roundsCounted = roundsCounted;
+    }
+    
+    public LocalDateTime getComputedAt() {
+        return computedAt;
+    }
+    
+    public void setComputedAt(LocalDateTime computedAt) {
+        this.computedAt = computedAt;
+    }
+}
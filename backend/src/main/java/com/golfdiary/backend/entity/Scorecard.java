@@ -0,0 +1,310 @@
+package com.golfdiary.backend.entity;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Immutable hole-by-hole scorecard packed into {@value #BYTES_PER_HOLE} bytes per hole:
+ * par, strokes, putts + 1 (0 when not recorded) and a flag byte for fairway and green in regulation.
+ * Stored as a single {@code VARBINARY} column on {@link GolfRound}; the accessors read the packed
+ * bytes directly so callers can decode into primitive arrays without boxing.
+ */
+@JsonSerialize(using = Scorecard.Serializer.class)
+public final class Scorecard {
+
+    public static final int MAX_HOLES = 18;
+    static final int BYTES_PER_HOLE = 4;
+    static final int MAX_BYTES = MAX_HOLES * BYTES_PER_HOLE;
+
+    private static final int PAR = 0;
+    private static final int STROKES = 1;
+    private static final int PUTTS = 2;
+    private static final int FLAGS = 3;
+
+    private static final int FAIRWAY_HIT = 1;
+    private static final int FAIRWAY_MISSED = 2;
+    private static final int GREEN_HIT = 4;
+    private static final int GREEN_MISSED = 8;
+
+    private final byte[] packed;
+
+    // Wraps bytes read from the database without copying; they must not be modified afterwards
+    Scorecard(byte[] packed) {
+        if (packed.length == 0 || packed.length > MAX_BYTES || packed.length % BYTES_PER_HOLE != 0) {
+            throw new IllegalArgumentException("Invalid packed scorecard of " + packed.length + " bytes");
+        }
+        this.packed = packed;
+    }
+
+    @JsonCreator
+    public static Scorecard of(@JsonProperty("par") int[] par,
+                               @JsonProperty("strokes") int[] strokes,
+                               @JsonProperty("putts") Integer[] putts,
+                               @JsonProperty("fairwayHit") Boolean[] fairwayHit,
+                               @JsonProperty("greenInRegulation") Boolean[] greenInRegulation) {
+        if (par == null || strokes == null) {
+            throw new IllegalArgumentException("Scorecard needs par and strokes for every hole");
+        }
+        int holes = par.length;
+        if (holes == 0 || holes > MAX_HOLES) {
+            throw new IllegalArgumentException("Scorecard must have between 1 and " + MAX_HOLES + " holes");
+        }
+        if (strokes.length != holes || (putts != null && putts.length != holes)
+                || (fairwayHit != null && fairwayHit.length != holes)
+                || (greenInRegulation != null && greenInRegulation.length != holes)) {
+            throw new IllegalArgumentException("Scorecard arrays must all have " + holes + " entries");
+        }
+        byte[] packed = new byte[holes * BYTES_PER_HOLE];
+        for (int hole = 0; hole < holes; hole++) {
+            pack(packed, hole, par[hole], strokes[hole],
+                    putts != null ? putts[hole] : null,
+                    fairwayHit != null ? fairwayHit[hole] : null,
+                    greenInRegulation != null ? greenInRegulation[hole] : null);
+        }
+        return new Scorecard(packed);
+    }
+
+    /**
+     * Parses the text form used by CSV import and export: one space-separated token per hole,
+     * {@code par:strokes[:putts[:flags]]}, where putts may be {@code -} and flags are
+     * {@code F}/{@code f} for fairway hit/missed and {@code G}/{@code g} for green hit/missed.
+     */
+    public static Scorecard parse(String text) {
+        String[] tokens = text.trim().split("\\s+");
+        if (tokens.length == 0 || tokens[0].isEmpty() || tokens.length > MAX_HOLES) {
+            throw new IllegalArgumentException("Scorecard must have between 1 and " + MAX_HOLES + " holes");
+        }
+        byte[] packed = new byte[tokens.length * BYTES_PER_HOLE];
+        for (int hole = 0; hole < tokens.length; hole++) {
+            String[] parts = tokens[hole].split(":", -1);
+            if (parts.length < 2 || parts.length > 4) {
+                throw new IllegalArgumentException("Hole " + (hole + 1) + " is not par:strokes[:putts[:flags]]");
+            }
+            Integer putts = parts.length > 2 && !parts[2].equals("-") ? parseNumber(hole, parts[2]) : null;
+            Boolean fairwayHit = null;
+            Boolean greenInRegulation = null;
+            String flags = parts.length > 3 ? parts[3] : "";
+            for (int i = 0; i < flags.length(); i++) {
+                switch (flags.charAt(i)) {
+                    case 'F' -> fairwayHit = true;
+                    case 'f' -> fairwayHit = false;
+                    case 'G' -> greenInRegulation = true;
+                    case 'g' -> greenInRegulation = false;
+                    default -> throw new IllegalArgumentException("Hole " + (hole + 1) + " has unknown flag " + flags.charAt(i));
+                }
+            }
+            pack(packed, hole, parseNumber(hole, parts[0]), parseNumber(hole, parts[1]), putts, fairwayHit, greenInRegulation);
+        }
+        return new Scorecard(packed);
+    }
+
+    private static void pack(byte[] packed, int hole, int par, int strokes, Integer putts,
+                             Boolean fairwayHit, Boolean greenInRegulation) {
+        if (par < 3 || par > 6) {
+            throw new IllegalArgumentException("Hole " + (hole + 1) + " par must be between 3 and 6");
+        }
+        if (strokes < 1 || strokes > 20) {
+            throw new IllegalArgumentException("Hole " + (hole + 1) + " strokes must be between 1 and 20");
+        }
+        if (putts != null && (putts < 0 || putts >= strokes)) {
+            throw new IllegalArgumentException("Hole " + (hole + 1) + " putts must be between 0 and strokes - 1");
+        }
+        int flags = 0;
+        if (fairwayHit != null) {
+            flags |= fairwayHit ? FAIRWAY_HIT : FAIRWAY_MISSED;
+        }
+        if (greenInRegulation != null) {
+            flags |= greenInRegulation ? GREEN_HIT : GREEN_MISSED;
+        }
+        int offset = hole * BYTES_PER_HOLE;
+        packed[offset + PAR] = (byte) par;
+        packed[offset + STROKES] = (byte) strokes;
+        packed[offset + PUTTS] = (byte) (putts != null ? putts + 1 : 0);
+        packed[offset + FLAGS] = (byte) flags;
+    }
+
+    private static int parseNumber(int hole, String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Hole " + (hole + 1) + " has a non-numeric value: " + value);
+        }
+    }
+
+    byte[] packed() {
+        return packed;
+    }
+
+    public int getHoleCount() {
+        return packed.length / BYTES_PER_HOLE;
+    }
+
+    // Per-hole accessors take a zero-based hole index
+
+    public int par(int hole) {
+        return packed[hole * BYTES_PER_HOLE + PAR];
+    }
+
+    public int strokes(int hole) {
+        return packed[hole * BYTES_PER_HOLE + STROKES];
+    }
+
+    // -1 when putts were not recorded for the hole
+    public int putts(int hole) {
+        return packed[hole * BYTES_PER_HOLE + PUTTS] - 1;
+    }
+
+    public boolean isFairwayRecorded(int hole) {
+        return (packed[hole * BYTES_PER_HOLE + FLAGS] & (FAIRWAY_HIT | FAIRWAY_MISSED)) != 0;
+    }
+
+    public boolean isFairwayHit(int hole) {
+        return (packed[hole * BYTES_PER_HOLE + FLAGS] & FAIRWAY_HIT) != 0;
+    }
+
+    public boolean isGreenRecorded(int hole) {
+        return (packed[hole * BYTES_PER_HOLE + FLAGS] & (GREEN_HIT | GREEN_MISSED)) != 0;
+    }
+
+    public boolean isGreenInRegulation(int hole) {
+        return (packed[hole * BYTES_PER_HOLE + FLAGS] & GREEN_HIT) != 0;
+    }
+
+    // Bulk decoders; each allocates only the returned array
+
+    public int[] pars() {
+        return decode(PAR, 0);
+    }
+
+    public int[] strokes() {
+        return decode(STROKES, 0);
+    }
+
+    public int[] putts() {
+        return decode(PUTTS, -1);
+    }
+
+    public int totalPar() {
+        return sum(PAR);
+    }
+
+    public int totalStrokes() {
+        return sum(STROKES);
+    }
+
+    private int[] decode(int field, int bias) {
+        int[] values = new int[getHoleCount()];
+        for (int hole = 0, offset = field; hole < values.length; hole++, offset += BYTES_PER_HOLE) {
+            values[hole] = packed[offset] + bias;
+        }
+        return values;
+    }
+
+    private int sum(int field) {
+        int total = 0;
+        for (int offset = field; offset < packed.length; offset += BYTES_PER_HOLE) {
+            total += packed[offset];
+        }
+        return total;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Scorecard other && Arrays.equals(packed, other.packed));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(packed);
+    }
+
+    // The text form accepted by parse(String)
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(getHoleCount() * 8);
+        for (int hole = 0; hole < getHoleCount(); hole++) {
+            if (hole > 0) {
+                text.append(' ');
+            }
+            text.append(par(hole)).append(':').append(strokes(hole));
+            boolean hasFlags = isFairwayRecorded(hole) || isGreenRecorded(hole);
+            if (putts(hole) >= 0 || hasFlags) {
+                text.append(':');
+                if (putts(hole) >= 0) {
+                    text.append(putts(hole));
+                } else {
+                    text.append('-');
+                }
+            }
+            if (hasFlags) {
+                text.append(':');
+                if (isFairwayRecorded(hole)) {
+                    text.append(isFairwayHit(hole) ? 'F' : 'f');
+                }
+                if (isGreenRecorded(hole)) {
+                    text.append(isGreenInRegulation(hole) ? 'G' : 'g');
+                }
+            }
+        }
+        return text.toString();
+    }
+
+    // Writes the parallel-array JSON form straight from the packed bytes
+    static class Serializer extends StdSerializer<Scorecard> {
+
+        Serializer() {
+            super(Scorecard.class);
+        }
+
+        @Override
+        public void serialize(Scorecard scorecard, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            int holes = scorecard.getHoleCount();
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("par");
+            for (int hole = 0; hole < holes; hole++) {
+                generator.writeNumber(scorecard.par(hole));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("strokes");
+            for (int hole = 0; hole < holes; hole++) {
+                generator.writeNumber(scorecard.strokes(hole));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("putts");
+            for (int hole = 0; hole < holes; hole++) {
+                if (scorecard.putts(hole) >= 0) {
+                    generator.writeNumber(scorecard.putts(hole));
+                } else {
+                    generator.writeNull();
+                }
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("fairwayHit");
+            for (int hole = 0; hole < holes; hole++) {
+                if (scorecard.isFairwayRecorded(hole)) {
+                    generator.writeBoolean(scorecard.isFairwayHit(hole));
+                } else {
+                    generator.writeNull();
+                }
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("greenInRegulation");
+            for (int hole = 0; hole < holes; hole++) {
+                if (scorecard.isGreenRecorded(hole)) {
+                    generator.writeBoolean(scorecard.isGreenInRegulation(hole));
+                } else {
+                    generator.writeNull();
+                }
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+    }
+}
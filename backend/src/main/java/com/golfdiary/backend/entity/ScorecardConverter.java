@@ -0,0 +1,24 @@
+package com.golfdiary.backend.entity;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Maps {@link Scorecard} to its packed bytes. Scorecards are immutable, so Hibernate compares
+ * them by value instead of taking deep copies for dirty checking.
+ */
+@Converter
+@Immutable
+public class ScorecardConverter implements AttributeConverter<Scorecard, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(Scorecard scorecard) {
+        return scorecard != null ? scorecard.packed() : null;
+    }
+
+    @Override
+    public Scorecard convertToEntityAttribute(byte[] packed) {
+        return packed != null && packed.length > 0 ? new Scorecard(packed) : null;
+    }
+}
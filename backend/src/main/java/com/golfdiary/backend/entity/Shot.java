@@ -0,0 +1,153 @@
+package com.golfdiary.backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * A single shot logged during a round. Rows are written in batches by the shot ingestion
+ * service; {@code eventId} identifies the shot so a replayed ingestion log cannot insert it twice.
+ * {@code round_id} has no foreign key so a buffered batch is never rejected because its round was
+ * deleted in the meantime.
+ */
+@Entity
+@Table(name = "shots", indexes = {
+    @Index(name = "idx_shots_round", columnList = "round_id, hole, shot_number"),
+    @Index(name = "uk_shots_event", columnList = "event_id", unique = true)
+})
+public class Shot {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "event_id", nullable = false, length = 36)
+    private String eventId;
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "round_id", nullable = false)
+    private Long roundId;
+    
+    private Integer hole;
+    
+    @Column(name = "shot_number")
+    private Integer shotNumber;
+    
+    @Column(length = 16)
+    private String club;
+    
+    private Integer distance;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private ShotLocation lie;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private ShotLocation result;
+    
+    // Client clock when the shot was logged; createdAt is when the server accepted it
+    @Column(name = "recorded_at")
+    private LocalDateTime recordedAt;
+    
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getEventId() {
+        return eventId;
+    }
+    
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+    
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+    
+    public Long getRoundId() {
+        return roundId;
+    }
+    
+    public void setRoundId(Long roundId) {
+        this.roundId = roundId;
+    }
+    
+    public Integer getHole() {
+        return hole;
+    }
+    
+    public void setHole(Integer hole) {
+        this.hole = hole;
+    }
+    
+    public Integer getShotNumber() {
+        return shotNumber;
+    }
+    
+    public void setShotNumber(Integer shotNumber) {
+        this.shotNumber = shotNumber;
+    }
+    
+    public String getClub() {
+        return club;
+    }
+    
+    public void setClub(String club) {
+        this.club = club;
+    }
+    
+    public Integer getDistance() {
+        return distance;
+    }
+    
+    public void setDistance(Integer distance) {
+        this.distance = distance;
+    }
+    
+    public ShotLocation getLie() {
+        return lie;
+    }
+    
+    public void setLie(ShotLocation lie) {
+        this.lie = lie;
+    }
+    
+    public ShotLocation getResult() {
+        return result;
+    }
+    
+    public void setResult(ShotLocation result) {
+        this.result = result;
+    }
+    
+    public LocalDateTime getRecordedAt() {
+        return recordedAt;
+    }
+    
+    public void setRecordedAt(LocalDateTime recordedAt) {
+        this.recordedAt = recordedAt;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
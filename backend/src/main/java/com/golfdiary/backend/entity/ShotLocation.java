@@ -0,0 +1,14 @@
+package com.golfdiary.backend.entity;
+
+// Where a shot was played from (its lie) or where the ball finished (its result)
+public enum ShotLocation {
+    TEE,
+    FAIRWAY,
+    ROUGH,
+    SAND,
+    FRINGE,
+    GREEN,
+    RECOVERY,
+    PENALTY,
+    HOLE
+}
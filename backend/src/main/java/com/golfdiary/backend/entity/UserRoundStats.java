@@ -0,0 +1,182 @@
+package com.golfdiary.backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Running career totals for one user, kept in step with golf_rounds by applying deltas
+ * in the same transaction as each round write. Reading career stats is a primary-key lookup.
+ */
+@Entity
+@Table(name = "user_round_stats")
+public class UserRoundStats {
+    
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+    
+    private long roundCount;
+    
+    // Rounds with a totalScore, and the sums needed for mean and standard deviation
+    private long scoredRounds;
+    private long scoreSum;
+    private long scoreSquaresSum;
+    
+    // Rounds with both totalScore and par
+    private long parRounds;
+    private long overParSum;
+    
+    private Integer minScore;
+    private Integer maxScore;
+    
+    private long birdies;
+    private long pars;
+    private long bogeys;
+    private long doubleBogeys;
+    private long other;
+    
+    // Incremented on every change; doubles as a cheap data version for the user's rounds
+    private long revision;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public UserRoundStats() {
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    public UserRoundStats(Long userId) {
+        this();
+        this.userId = userId;
+    }
+    
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+    
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+    
+    public long getRoundCount() {
+        return roundCount;
+    }
+    
+    public void setRoundCount(long roundCount) {
+        this.roundCount = roundCount;
+    }
+    
+    public long getScoredRounds() {
+        return scoredRounds;
+    }
+    
+    public void setScoredRounds(long scoredRounds) {
+        this.scoredRounds = scoredRounds;
+    }
+    
+    public long getScoreSum() {
+        return scoreSum;
+    }
+    
+    public void setScoreSum(long scoreSum) {
+        this.scoreSum = scoreSum;
+    }
+    
+    public long getScoreSquaresSum() {
+        return scoreSquaresSum;
+    }
+    
+    public void setScoreSquaresSum(long scoreSquaresSum) {
+        this.scoreSquaresSum = scoreSquaresSum;
+    }
+    
+    public long getParRounds() {
+        return parRounds;
+    }
+    
+    public void setParRounds(long parRounds) {
+        this.parRounds = parRounds;
+    }
+    
+    public long getOverParSum() {
+        return overParSum;
+    }
+    
+    public void setOverParSum(long overParSum) {
+        this.overParSum = overParSum;
+    }
+    
+    public Integer getMinScore() {
+        return minScore;
+    }
+    
+    public void setMinScore(Integer minScore) {
+        this.minScore = minScore;
+    }
+    
+    public Integer getMaxScore() {
+        return maxScore;
+    }
+    
+    public void setMaxScore(Integer maxScore) {
+        this.maxScore = maxScore;
+    }
+    
+    public long getBirdies() {
+        return birdies;
+    }
+    
+    public void setBirdies(long birdies) {
+        this.birdies = birdies;
+    }
+    
+    public long getPars() {
+        return pars;
+    }
+    
+    public void setPars(long pars) {
+        this.pars = pars;
+    }
+    
+    public long getBogeys() {
+        return bogeys;
+    }
+    
+    public void setBogeys(long bogeys) {
+        this.bogeys = bogeys;
+    }
+    
+    public long getDoubleBogeys() {
+        return doubleBogeys;
+    }
+    
+    public void setDoubleBogeys(long doubleBogeys) {
+        this.doubleBogeys = doubleBogeys;
+    }
+    
+    public long getOther() {
+        return other;
+    }
+    
+    public void setOther(long other) {
+        this.other = other;
+    }
+    
+    public long getRevision() {
+        return revision;
+    }
+    
+    public void setRevision(long revision) {
+        this.revision = revision;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
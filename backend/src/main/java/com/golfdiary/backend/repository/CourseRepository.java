@@ -0,0 +1,33 @@
+package com.golfdiary.backend.repository;
+
+import com.golfdiary.backend.entity.Course;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface CourseRepository extends JpaRepository<Course, Integer> {
+    Optional<Course> findByNameKey(String nameKey);
+
+    // A locking read sees a course another transaction committed after this one's snapshot was taken
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM Course c WHERE c.nameKey = :nameKey")
+    Optional<Course> findForUpdate(@Param("nameKey") String nameKey);
+
+    // Creates the course unless one with this name key exists. A concurrent insert of the same key waits
+    // on the first one's row lock instead of failing, so both writers can then read it with findForUpdate
+    @Modifying
+    @Query(value = "INSERT INTO courses (name, name_key, par, course_rating, slope_rating, created_at) " +
+                   "VALUES (:name, :nameKey, :par, :courseRating, :slopeRating, :now) " +
+                   "ON DUPLICATE KEY UPDATE name_key = name_key", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("nameKey") String nameKey, @Param("par") Integer par,
+                       @Param("courseRating") Double courseRating, @Param("slopeRating") Integer slopeRating,
+                       @Param("now") LocalDateTime now);
+}
@@ -1,16 +1,139 @@
 package com.golfdiary.backend.repository;
 
+import com.golfdiary.backend.dto.RoundStatistics;
+import com.golfdiary.backend.entity.Course;
 import com.golfdiary.backend.entity.GolfRound;
 import com.golfdiary.backend.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface GolfRoundRepository extends JpaRepository<GolfRound, Long> {
-    List<GolfRound> findByUserOrderByRoundDateDesc(User user);
-    List<GolfRound> findByUserAndRoundDateBetweenOrderByRoundDateDesc(User user, LocalDateTime startDate, LocalDateTime endDate);
-    List<GolfRound> findByUserAndCourseNameOrderByRoundDateDesc(User user, String courseName);
-} 
\ No newline at end of file
+    // Keyset pagination on (round_date, id): first pages
+    List<GolfRound> findByUserOrderByRoundDateDescIdDesc(User user, Limit limit);
+    List<GolfRound> findByUserAndCourse_IdOrderByRoundDateDescIdDesc(User user, Integer courseId, Limit limit);
+    List<GolfRound> findByUserAndRoundDateBetweenOrderByRoundDateDescIdDesc(User user, LocalDateTime startDate, LocalDateTime endDate, Limit limit);
+
+    // Keyset pagination on (round_date, id): pages after a cursor
+    @Query("SELECT r FROM GolfRound r WHERE r.user = :user " +
+           "AND (r.roundDate < :roundDate OR (r.roundDate = :roundDate AND r.id < :id)) " +
+           "ORDER BY r.roundDate DESC, r.id DESC")
+    List<GolfRound> findPageAfter(@Param("user") User user,
+                                  @Param("roundDate") LocalDateTime roundDate,
+                                  @Param("id") Long id,
+                                  Limit limit);
+
+    @Query("SELECT r FROM GolfRound r WHERE r.user = :user AND r.course.id = :courseId " +
+           "AND (r.roundDate < :roundDate OR (r.roundDate = :roundDate AND r.id < :id)) " +
+           "ORDER BY r.roundDate DESC, r.id DESC")
+    List<GolfRound> findCoursePageAfter(@Param("user") User user,
+                                        @Param("courseId") Integer courseId,
+                                        @Param("roundDate") LocalDateTime roundDate,
+                                        @Param("id") Long id,
+                                        Limit limit);
+
+    @Query("SELECT r FROM GolfRound r WHERE r.user = :user AND r.roundDate BETWEEN :startDate AND :endDate " +
+           "AND (r.roundDate < :roundDate OR (r.roundDate = :roundDate AND r.id < :id)) " +
+           "ORDER BY r.roundDate DESC, r.id DESC")
+    List<GolfRound> findDateRangePageAfter(@Param("user") User user,
+                                           @Param("startDate") LocalDateTime startDate,
+                                           @Param("endDate") LocalDateTime endDate,
+                                           @Param("roundDate") LocalDateTime roundDate,
+                                           @Param("id") Long id,
+                                           Limit limit);
+
+    // All statistics in one aggregate query; null filters are ignored
+    @Query("SELECT new com.golfdiary.backend.dto.RoundStatistics(" +
+           "COUNT(r), AVG(r.totalScore), AVG(r.totalScore - r.par), " +
+           "SUM(r.birdies), SUM(r.pars), SUM(r.bogeys), SUM(r.doubleBogeys), SUM(r.other), " +
+           "MIN(r.totalScore), MAX(r.totalScore)) " +
+           "FROM GolfRound r WHERE r.user = :user " +
+           "AND (:courseId IS NULL OR r.course.id = :courseId) " +
+           "AND (:startDate IS NULL OR r.roundDate >= :startDate) " +
+           "AND (:endDate IS NULL OR r.roundDate <= :endDate)")
+    RoundStatistics aggregateStatistics(@Param("user") User user,
+                                        @Param("courseId") Integer courseId,
+                                        @Param("startDate") LocalDateTime startDate,
+                                        @Param("endDate") LocalDateTime endDate);
+
+    @Query("SELECT MIN(r.totalScore), MAX(r.totalScore) FROM GolfRound r WHERE r.user.id = :userId")
+    List<Object[]> findScoreRange(@Param("userId") Long userId);
+
+    // Per-user career totals used to rebuild user_round_stats; a null userId covers every user
+    @Query("SELECT r.user.id, COUNT(r), COUNT(r.totalScore), SUM(r.totalScore), SUM(r.totalScore * r.totalScore), " +
+           "SUM(CASE WHEN r.totalScore IS NOT NULL AND r.par IS NOT NULL THEN 1 ELSE 0 END), SUM(r.totalScore - r.par), " +
+           "MIN(r.totalScore), MAX(r.totalScore), " +
+           "SUM(r.birdies), SUM(r.pars), SUM(r.bogeys), SUM(r.doubleBogeys), SUM(r.other) " +
+           "FROM GolfRound r WHERE (:userId IS NULL OR r.user.id = :userId) GROUP BY r.user.id")
+    List<Object[]> aggregateCareerTotals(@Param("userId") Long userId);
+
+    // Newest rounds with a score differential: the handicap window (bounded by the limit)
+    @Query("SELECT r.id, r.roundDate, r.scoreDifferential FROM GolfRound r " +
+           "WHERE r.user.id = :userId AND r.scoreDifferential IS NOT NULL ORDER BY r.roundDate DESC, r.id DESC")
+    List<Object[]> findRecentDifferentials(@Param("userId") Long userId, Limit limit);
+
+    // Every scored round with its player, streamed to build the course leaderboards
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r.id, u.id, u.username, r.course.id, r.roundDate, r.totalScore, r.par " +
+           "FROM GolfRound r JOIN r.user u WHERE r.course IS NOT NULL AND r.totalScore IS NOT NULL")
+    Stream<Object[]> streamLeaderboardRows();
+
+    // Best rounds on a course by gross score or by score to par; null dates cover all time
+    @Query("SELECT r.id, u.id, u.username, r.course.id, r.roundDate, r.totalScore, r.par " +
+           "FROM GolfRound r JOIN r.user u WHERE r.course.id = :courseId AND r.totalScore IS NOT NULL " +
+           "AND (:from IS NULL OR r.roundDate >= :from) AND (:to IS NULL OR r.roundDate < :to) " +
+           "ORDER BY r.totalScore, r.roundDate, r.id")
+    List<Object[]> findBestGross(@Param("courseId") Integer courseId, @Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to, Limit limit);
+
+    @Query("SELECT r.id, u.id, u.username, r.course.id, r.roundDate, r.totalScore, r.par " +
+           "FROM GolfRound r JOIN r.user u WHERE r.course.id = :courseId AND r.totalScore IS NOT NULL " +
+           "AND r.par IS NOT NULL AND (:from IS NULL OR r.roundDate >= :from) AND (:to IS NULL OR r.roundDate < :to) " +
+           "ORDER BY r.totalScore - r.par, r.roundDate, r.id")
+    List<Object[]> findBestToPar(@Param("courseId") Integer courseId, @Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to, Limit limit);
+
+    // Newest scored rounds for rolling trends (bounded by the limit)
+    @Query("SELECT r.id, r.roundDate, r.totalScore, r.par FROM GolfRound r " +
+           "WHERE r.user.id = :userId AND r.totalScore IS NOT NULL ORDER BY r.roundDate DESC, r.id DESC")
+    List<Object[]> findRecentScores(@Param("userId") Long userId, Limit limit);
+
+    @Query("SELECT r.id, r.roundDate, r.totalScore, r.par FROM GolfRound r " +
+           "WHERE r.user.id = :userId AND r.course.id = :courseId AND r.totalScore IS NOT NULL " +
+           "ORDER BY r.roundDate DESC, r.id DESC")
+    List<Object[]> findRecentCourseScores(@Param("userId") Long userId, @Param("courseId") Integer courseId,
+                                          Limit limit);
+
+    // Scored rounds in [from, to) for bucketed trends; a range scan on (user_id, round_date)
+    @Query("SELECT r.roundDate, r.totalScore, r.par FROM GolfRound r " +
+           "WHERE r.user.id = :userId AND r.roundDate >= :from AND r.roundDate < :to AND r.totalScore IS NOT NULL " +
+           "AND (:courseId IS NULL OR r.course.id = :courseId) ORDER BY r.roundDate")
+    List<Object[]> findScoresBetween(@Param("userId") Long userId, @Param("courseId") Integer courseId,
+                                     @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Distinct names of rounds not yet linked to a course, most used first, with the largest par,
+    // rating and slope recorded under each
+    @Query("SELECT r.courseName, MAX(r.par), MAX(r.courseRating), MAX(r.slopeRating) FROM GolfRound r " +
+           "WHERE r.course IS NULL GROUP BY r.courseName ORDER BY COUNT(r) DESC")
+    List<Object[]> findUnlinkedCourseNames();
+
+    @Modifying
+    @Query("UPDATE GolfRound r SET r.course = :course, r.courseName = :canonicalName " +
+           "WHERE r.course IS NULL AND r.courseName = :courseName")
+    int linkCourse(@Param("courseName") String courseName, @Param("course") Course course,
+                   @Param("canonicalName") String canonicalName);
+}
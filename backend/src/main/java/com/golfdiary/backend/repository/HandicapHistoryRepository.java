@@ -0,0 +1,15 @@
+package com.golfdiary.backend.repository;
+
+import com.golfdiary.backend.entity.HandicapHistory;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface HandicapHistoryRepository extends JpaRepository<HandicapHistory, Long> {
+    List<HandicapHistory> findByUserIdOrderByComputedAtDescIdDesc(Long userId, Limit limit);
+    Optional<HandicapHistory> findFirstByUserIdOrderByComputedAtDescIdDesc(Long userId);
+}
@@ -1,13 +1,22 @@
 package com.golfdiary.backend.repository;
 
+import com.golfdiary.backend.dto.LessonSummary;
 import com.golfdiary.backend.entity.Lesson;
 import com.golfdiary.backend.entity.LessonCategory;
 import com.golfdiary.backend.entity.LessonLevel;
 import com.golfdiary.backend.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface LessonRepository extends JpaRepository<Lesson, Long> {
@@ -16,4 +25,30 @@ public interface LessonRepository extends JpaRepository<Lesson, Long> {
     List<Lesson> findByCategoryAndIsPublishedTrueOrderByCreatedAtDesc(LessonCategory category);
     List<Lesson> findByLevelAndIsPublishedTrueOrderByCreatedAtDesc(LessonLevel level);
     List<Lesson> findByCategoryAndLevelAndIsPublishedTrueOrderByCreatedAtDesc(LessonCategory category, LessonLevel level);
-} 
\ No newline at end of file
+
+    String SUMMARY_SELECT = "SELECT new com.golfdiary.backend.dto.LessonSummary(l.id, l.title, l.category, l.level, " +
+            "l.isPublished, l.createdAt, l.updatedAt, i.firstName, i.lastName, i.username) " +
+            "FROM Lesson l JOIN l.instructor i ";
+
+    // List projections: never select the description/content TEXT columns
+    @Query(SUMMARY_SELECT + "ORDER BY l.createdAt DESC, l.id DESC")
+    List<LessonSummary> findAllSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE l.isPublished = true ORDER BY l.createdAt DESC, l.id DESC")
+    List<LessonSummary> findPublishedSummaries();
+
+    @Query(SUMMARY_SELECT + "WHERE i.id = :instructorId ORDER BY l.createdAt DESC, l.id DESC")
+    List<LessonSummary> findSummariesByInstructorId(@Param("instructorId") Long instructorId);
+
+    // Single lesson with its instructor in one statement; the instructor is serialized with the lesson
+    @EntityGraph(attributePaths = "instructor")
+    Optional<Lesson> findWithInstructorById(Long id);
+
+    // Full published lessons for building the search index; callers detach each row once indexed
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT l FROM Lesson l JOIN FETCH l.instructor WHERE l.isPublished = true")
+    Stream<Lesson> streamPublishedWithInstructor();
+}
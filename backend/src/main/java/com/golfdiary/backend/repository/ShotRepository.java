@@ -0,0 +1,19 @@
+package com.golfdiary.backend.repository;
+
+import com.golfdiary.backend.entity.Shot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ShotRepository extends JpaRepository<Shot, Long> {
+    List<Shot> findByRoundIdOrderByHoleAscShotNumberAscIdAsc(Long roundId);
+
+    @Modifying
+    @Query("DELETE FROM Shot s WHERE s.roundId = :roundId")
+    int deleteByRoundId(@Param("roundId") Long roundId);
+}
@@ -1,10 +1,18 @@
 package com.golfdiary.backend.repository;
 
 import com.golfdiary.backend.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -12,4 +20,22 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
+
+    // Every username and email, for loading the availability filters
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u.username, u.email FROM User u")
+    Stream<Object[]> streamUsernamesAndEmails();
+
+    @Query("SELECT u.username FROM User u WHERE u.id = :id")
+    Optional<String> findUsernameById(@Param("id") Long id);
+
+    // Compare-and-set so a password change racing with a login rehash is never overwritten
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+    int updatePasswordIfUnchanged(@Param("id") Long id, @Param("oldHash") String oldHash,
+                                  @Param("newHash") String newHash);
 } 
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.golfdiary.backend.repository;
+
+import com.golfdiary.backend.entity.UserRoundStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface UserRoundStatsRepository extends JpaRepository<UserRoundStats, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserRoundStats s WHERE s.userId = :userId")
+    Optional<UserRoundStats> findForUpdate(@Param("userId") Long userId);
+
+    // Creates an empty summary unless one exists. A concurrent insert for the same user waits on the
+    // first one's row lock instead of failing, so both writers can then lock the row with findForUpdate
+    @Modifying
+    @Query(value = "INSERT INTO user_round_stats (user_id, round_count, scored_rounds, score_sum, score_squares_sum, " +
+                   "par_rounds, over_par_sum, birdies, pars, bogeys, double_bogeys, other, revision, updated_at) " +
+                   "VALUES (:userId, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, :now) " +
+                   "ON DUPLICATE KEY UPDATE user_id = user_id", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT s.revision FROM UserRoundStats s WHERE s.userId = :userId")
+    Optional<Long> findRevision(@Param("userId") Long userId);
+}
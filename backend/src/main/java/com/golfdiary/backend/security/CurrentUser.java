@@ -0,0 +1,15 @@
+package com.golfdiary.backend.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Injects the authenticated {@link com.golfdiary.backend.entity.User} into a controller method.
+ * Resolved at most once per request by {@link CurrentUserArgumentResolver}.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+}
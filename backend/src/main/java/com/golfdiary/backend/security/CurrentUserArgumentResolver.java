@@ -0,0 +1,48 @@
+package com.golfdiary.backend.security;
+
+import com.golfdiary.backend.entity.User;
+import com.golfdiary.backend.service.UserService;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+@Component
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    static final String CURRENT_USER_ATTRIBUTE = CurrentUserArgumentResolver.class.getName() + ".user";
+
+    private final UserService userService;
+
+    public CurrentUserArgumentResolver(UserService userService) {
+        this.userService = userService;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && User.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        // Memoized per request so the user is looked up at most once
+        Object cached = webRequest.getAttribute(CURRENT_USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof User user) {
+            return user;
+        }
+
+        User user = userService.getCurrentUser(SecurityContextHolder.getContext().getAuthentication());
+        if (user == null) {
+            throw new AccessDeniedException("User not found");
+        }
+        webRequest.setAttribute(CURRENT_USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+        return user;
+    }
+}
@@ -1,9 +1,12 @@
 package com.golfdiary.backend.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,34 +20,26 @@ import java.io.IOException;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final JwtTokenCache tokenCache;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService, JwtTokenCache tokenCache) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.tokenCache = tokenCache;
     }
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) throws ServletException {
         String requestURI = request.getRequestURI();
         String method = request.getMethod();
-        
-        System.out.println("JWT Filter: Checking if should filter - URI: " + requestURI + ", Method: " + method);
-        
+
         // Don't apply this filter to public endpoints
-        boolean shouldNotFilter = requestURI.startsWith("/api/auth/") || 
+        return (requestURI.startsWith("/api/auth/") && !requestURI.equals("/api/auth/password")) || 
                (requestURI.startsWith("/api/lessons") && method.equals("GET") && !requestURI.contains("/instructor"));
-        
-        System.out.println("JWT Filter: Should NOT filter this request: " + shouldNotFilter);
-        
-        if (shouldNotFilter) {
-            System.out.println("JWT Filter: SKIPPING this request - it's a public endpoint");
-        } else {
-            System.out.println("JWT Filter: WILL PROCESS this request - it requires authentication");
-        }
-        
-        return shouldNotFilter;
     }
 
     @Override
@@ -55,47 +50,54 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
         final String jwt;
-        final String username;
-
-        System.out.println("JWT Filter: Processing request to " + request.getRequestURI());
-        System.out.println("JWT Filter: Authorization header: " + (authHeader != null ? "present" : "null"));
 
         // If no Authorization header, just continue without authentication
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            System.out.println("JWT Filter: No valid Authorization header, continuing without authentication");
             filterChain.doFilter(request, response);
             return;
         }
 
         // If we have an Authorization header but it's invalid, return 401
         jwt = authHeader.substring(7);
-        username = jwtUtil.extractUsername(jwt);
-        System.out.println("JWT Filter: Extracted username: " + username);
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            try {
-                UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-                if (jwtUtil.validateToken(jwt, userDetails)) {
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities()
-                    );
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                    System.out.println("JWT Filter: Authentication successful for user: " + username);
-                } else {
-                    System.out.println("JWT Filter: Token validation failed for user: " + username);
-                    // Don't continue with invalid token
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            UserDetails userDetails;
+            JwtTokenCache.Entry cached = tokenCache.get(jwt);
+            if (cached != null) {
+                userDetails = cached.getUserDetails();
+            } else {
+                try {
+                    // Parse and verify the signature once, then reuse the claims for validation
+                    Claims claims = jwtUtil.extractAllClaims(jwt);
+                    userDetails = jwtUtil.isClaimsPrincipalEnabled()
+                            && !tokenCache.isInvalidated(claims.getSubject(), claims.getIssuedAt())
+                            ? jwtUtil.extractPrincipal(claims)
+                            : null;
+                    if (userDetails == null) {
+                        userDetails = this.userDetailsService.loadUserByUsername(claims.getSubject());
+                    }
+                    if (!jwtUtil.validateClaims(claims, userDetails)) {
+                        log.debug("Token validation failed for user {}", claims.getSubject());
+                        // Don't continue with invalid token
+                        response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                        return;
+                    }
+                    tokenCache.put(jwt, claims, userDetails);
+                } catch (Exception e) {
+                    log.debug("Rejected bearer token: {}", e.getMessage());
+                    // Don't continue with authentication error
                     response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                     return;
                 }
-            } catch (Exception e) {
-                System.out.println("JWT Filter: Error processing authentication: " + e.getMessage());
-                // Don't continue with authentication error
-                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-                return;
             }
+
+            UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                    userDetails,
+                    null,
+                    userDetails.getAuthorities()
+            );
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         }
         filterChain.doFilter(request, response);
     }
@@ -0,0 +1,71 @@
+package com.golfdiary.backend.security;
+
+import com.golfdiary.backend.entity.UserRole;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Lightweight principal built from the signed claims of a JWT, so authenticated requests
+ * can identify the caller without loading the {@link com.golfdiary.backend.entity.User} row.
+ */
+public class JwtPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String username;
+    private final UserRole role;
+    private final List<GrantedAuthority> authorities;
+
+    public JwtPrincipal(Long id, String username, UserRole role) {
+        this.id = id;
+        this.username = username;
+        this.role = role;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public UserRole getRole() {
+        return role;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,146 @@
+package com.golfdiary.backend.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of already verified JWTs. Entries are keyed by a SHA-256 digest of the
+ * token (the raw token is never stored) and live until the token itself expires, so a
+ * repeat request with the same bearer token skips signature verification and the user lookup.
+ */
+@Component
+public class JwtTokenCache {
+
+    private final int maxSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Long> invalidatedAt = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public JwtTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Entry get(String token) {
+        String key = digest(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry;
+    }
+
+    public void put(String token, Claims claims, UserDetails userDetails) {
+        if (maxSize <= 0 || claims.getExpiration() == null) {
+            return;
+        }
+        entries.put(digest(token), new Entry(claims, userDetails, claims.getExpiration().getTime()));
+        if (entries.size() > maxSize) {
+            trim();
+        }
+    }
+
+    // Called when a user's password changes so cached principals are not served
+    public void evictUser(String username) {
+        invalidatedAt.put(username, System.currentTimeMillis());
+        entries.values().removeIf(entry -> entry.getUserDetails().getUsername().equals(username));
+    }
+
+    // True when the user's password changed after this token was issued, so its claims are not trusted
+    public boolean isInvalidated(String username, Date issuedAt) {
+        Long changedAt = invalidatedAt.get(username);
+        return changedAt != null && (issuedAt == null || issuedAt.getTime() <= changedAt);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void trim() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+
+        // Still over capacity: drop arbitrary entries down to 90% so we don't trim on every put
+        int target = maxSize - maxSize / 10;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public static final class Entry {
+        private final Claims claims;
+        private final UserDetails userDetails;
+        private final long expiresAtMillis;
+
+        private Entry(Claims claims, UserDetails userDetails, long expiresAtMillis) {
+            this.claims = claims;
+            this.userDetails = userDetails;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        public Claims getClaims() {
+            return claims;
+        }
+
+        public UserDetails getUserDetails() {
+            return userDetails;
+        }
+
+        public long getExpiresAtMillis() {
+            return expiresAtMillis;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
+    }
+}
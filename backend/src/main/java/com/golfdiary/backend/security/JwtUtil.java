@@ -1,9 +1,14 @@
 package com.golfdiary.backend.security;
 
+import com.golfdiary.backend.entity.User;
+import com.golfdiary.backend.entity.UserRole;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
@@ -12,22 +17,49 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+
     @Value("${jwt.secret}")
     private String secret;
 
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    // When enabled, tokens carrying uid/role claims are trusted as the principal without a user lookup
+    @Value("${jwt.claims-principal.enabled:false}")
+    private boolean claimsPrincipalEnabled;
+
+    private volatile JwtParser parser;
+
+    private final Timer parseTimer;
+
+    public JwtUtil(MeterRegistry meterRegistry) {
+        this.parseTimer = Timer.builder("golfdiary.jwt.parse")
+                .description("JWT parse and signature verification time")
+                .register(meterRegistry);
+    }
+
     private Key getSigningKey() {
         byte[] keyBytes = secret.getBytes();
         return Keys.hmacShaKeyFor(keyBytes);
     }
 
+    private JwtParser getParser() {
+        if (parser == null) {
+            parser = Jwts.parserBuilder()
+                    .setSigningKey(getSigningKey())
+                    .build();
+        }
+        return parser;
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -41,23 +73,41 @@ public class JwtUtil {
         return claimsResolver.apply(claims);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    // Parses and verifies the token once; callers should reuse the returned claims
+    public Claims extractAllClaims(String token) {
+        long start = System.nanoTime();
+        try {
+            return getParser()
+                    .parseClaimsJws(token)
+                    .getBody();
+        } finally {
+            parseTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
     }
 
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof User user) {
+            claims.put(USER_ID_CLAIM, user.getId());
+            claims.put(ROLE_CLAIM, user.getRole().name());
+        }
         return createToken(claims, userDetails.getUsername());
     }
 
+    public boolean isClaimsPrincipalEnabled() {
+        return claimsPrincipalEnabled;
+    }
+
+    // Returns null for tokens issued without the uid/role claims
+    public JwtPrincipal extractPrincipal(Claims claims) {
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (userId == null || role == null || claims.getSubject() == null) {
+            return null;
+        }
+        return new JwtPrincipal(userId, claims.getSubject(), UserRole.valueOf(role));
+    }
+
     private String createToken(Map<String, Object> claims, String subject) {
         return Jwts.builder()
                 .setClaims(claims)
@@ -69,7 +119,12 @@ public class JwtUtil {
     }
 
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return validateClaims(extractAllClaims(token), userDetails);
+    }
+
+    public Boolean validateClaims(Claims claims, UserDetails userDetails) {
+        final String username = claims.getSubject();
+        return (username != null && username.equals(userDetails.getUsername())
+                && !claims.getExpiration().before(new Date()));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.golfdiary.backend.security;
+
+import com.golfdiary.backend.entity.UserRole;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Restricts a controller method (or every method of a controller) to users with the given role.
+ * Enforced by {@link RoleGuardInterceptor}, which answers 403 without invoking the handler.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RequireRole {
+    UserRole value();
+}
@@ -0,0 +1,42 @@
+package com.golfdiary.backend.security;
+
+import com.golfdiary.backend.entity.UserRole;
+import com.golfdiary.backend.service.UserService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+public class RoleGuardInterceptor implements HandlerInterceptor {
+
+    private final UserService userService;
+
+    public RoleGuardInterceptor(UserService userService) {
+        this.userService = userService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        RequireRole requireRole = handlerMethod.getMethodAnnotation(RequireRole.class);
+        if (requireRole == null) {
+            requireRole = handlerMethod.getBeanType().getAnnotation(RequireRole.class);
+        }
+        if (requireRole == null) {
+            return true;
+        }
+
+        UserRole role = userService.getCurrentRole(SecurityContextHolder.getContext().getAuthentication());
+        if (role != requireRole.value()) {
+            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            return false;
+        }
+        return true;
+    }
+}
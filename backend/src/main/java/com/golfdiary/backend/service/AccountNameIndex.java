@@ -0,0 +1,109 @@
+package com.golfdiary.backend.service;
+
+import com.golfdiary.backend.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.text.Normalizer;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filters over every registered username and email, so an availability check for a name nobody
+ * has taken needs no query. A "maybe taken" answer must be confirmed against the database. Until the
+ * filters are loaded every name is reported as maybe taken.
+ */
+@Component
+public class AccountNameIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountNameIndex.class);
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final UserRepository userRepository;
+    private final long expectedUsers;
+    private final double falsePositiveRate;
+
+    private volatile Filters filters;
+
+    public AccountNameIndex(UserRepository userRepository,
+                            @Value("${users.availability.expected-users:100000}") long expectedUsers,
+                            @Value("${users.availability.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    // Sized for twice the current user count (at least expected-users) so the filters keep their
+    // false positive rate as sign-ups continue; they are resized on the next restart
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long users = userRepository.count();
+        long capacity = Math.max(expectedUsers, users * 2);
+        Filters loaded = new Filters(capacity, falsePositiveRate);
+        try (Stream<Object[]> rows = userRepository.streamUsernamesAndEmails()) {
+            Iterator<Object[]> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                loaded.add((String) row[0], (String) row[1]);
+            }
+        }
+        filters = loaded;
+        log.info("Loaded username and email filters for {} users (capacity {})", users, capacity);
+    }
+
+    public void add(String username, String email) {
+        Filters current = filters;
+        if (current != null && current.add(username, email) == current.capacity + 1) {
+            log.warn("More users than the availability filters were sized for; restart to resize them");
+        }
+    }
+
+    public boolean mightContainUsername(String username) {
+        Filters current = filters;
+        return current == null || current.usernames.mightContain(normalize(username));
+    }
+
+    public boolean mightContainEmail(String email) {
+        Filters current = filters;
+        return current == null || current.emails.mightContain(normalize(email));
+    }
+
+    // Folds case and accents, like MySQL's default collation, so the filter never misses a name
+    // the unique index would treat as equal
+    private static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Filters {
+        private final long capacity;
+        private final BloomFilter usernames;
+        private final BloomFilter emails;
+        private final AtomicLong added = new AtomicLong();
+
+        private Filters(long capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            this.usernames = new BloomFilter(capacity, falsePositiveRate);
+            this.emails = new BloomFilter(capacity, falsePositiveRate);
+        }
+
+        private long add(String username, String email) {
+            if (username != null) {
+                usernames.add(normalize(username));
+            }
+            if (email != null) {
+                emails.add(normalize(email));
+            }
+            return added.incrementAndGet();
+        }
+    }
+}
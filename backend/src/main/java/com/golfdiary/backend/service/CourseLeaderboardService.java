@@ -0,0 +1,521 @@
+package com.golfdiary.backend.service;
+
+import com.golfdiary.backend.dto.Leaderboard;
+import com.golfdiary.backend.dto.LeaderboardEntry;
+import com.golfdiary.backend.entity.Course;
+import com.golfdiary.backend.repository.GolfRoundRepository;
+import com.golfdiary.backend.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * All-time and per-season (calendar year) leaderboards for every course, by gross score and by score
+ * to par. Each board keeps only its best {@code 2 x leaderboards.size} rounds, sorted, as an immutable
+ * list that reads return without a query. Round writes update the affected boards after they commit.
+ * A board that has dropped rounds for space and then loses enough entries to deletes or worse edits is
+ * reloaded from the table on its next read. A bulk import keeps the best rounds of each batch per board
+ * and merges them in when it commits. All boards are built from the table at startup.
+ */
+@Service
+public class CourseLeaderboardService implements GolfRoundChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseLeaderboardService.class);
+
+    public enum Metric {
+        GROSS("gross"),
+        TO_PAR("to-par");
+
+        private final String key;
+
+        Metric(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public static Metric fromParam(String value) {
+            for (Metric metric : values()) {
+                if (metric.key.equalsIgnoreCase(value)) {
+                    return metric;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported leaderboard metric: " + value);
+        }
+
+        // Null when the round cannot be ranked by this metric
+        Integer scoreOf(Integer totalScore, Integer par) {
+            if (totalScore == null) {
+                return null;
+            }
+            if (this == GROSS) {
+                return totalScore;
+            }
+            return par != null ? totalScore - par : null;
+        }
+
+        // Best first; ties go to the earlier round
+        Comparator<Entry> order() {
+            return this == GROSS ? GROSS_ORDER : TO_PAR_ORDER;
+        }
+    }
+
+    private static final Comparator<Entry> GROSS_ORDER = Comparator.<Entry>comparingInt(e -> e.totalScore)
+            .thenComparing(e -> e.roundDate)
+            .thenComparing(e -> e.roundId);
+    private static final Comparator<Entry> TO_PAR_ORDER = Comparator.<Entry>comparingInt(e -> e.totalScore - e.par)
+            .thenComparing(e -> e.roundDate)
+            .thenComparing(e -> e.roundId);
+
+    private final GolfRoundRepository golfRoundRepository;
+    private final UserRepository userRepository;
+    private final CourseService courseService;
+    private final TransactionTemplate primaryRead;
+    private final int size;
+    private final int depth;
+    // Transaction resource key for the boards of rounds imported but not yet committed
+    private final Object importResource = new Object();
+    // Usernames never change; rounds saved by JWT requests only carry a user id
+    private final Map<Long, String> usernames = new ConcurrentHashMap<>();
+
+    private final Object writeLock = new Object();
+    // Null until loaded and swapped whole by a rebuild; the boards in it are immutable
+    private volatile Map<BoardKey, Board> boards;
+    // One per rebuild or reload querying the table: the changes applied meanwhile, replayed onto its
+    // result (guarded by writeLock)
+    private final List<List<Consumer<Map<BoardKey, Board>>>> journals = new ArrayList<>();
+
+    public CourseLeaderboardService(GolfRoundRepository golfRoundRepository,
+                                    UserRepository userRepository,
+                                    CourseService courseService,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${leaderboards.size:10}") int size) {
+        this.golfRoundRepository = golfRoundRepository;
+        this.userRepository = userRepository;
+        this.courseService = courseService;
+        // Read-write on purpose: reloads must see the commit that triggered them, not a lagging replica
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.size = size;
+        this.depth = size * 2;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Override
+    public void onRoundChanged(RoundSnapshot before, RoundSnapshot after) {
+        afterCommit(() -> {
+            String username = after != null ? usernameOf(after) : null;
+            apply(target -> applyTo(target, before, after, username));
+        });
+    }
+
+    // Only the best `depth` imported rounds per board can reach it, so that is all the import holds on to
+    @Override
+    public void onRoundsInserted(List<RoundSnapshot> rounds) {
+        if (rounds.isEmpty()) {
+            return;
+        }
+        String username = usernameOf(rounds.get(0));
+        Map<BoardKey, Board> imported = importedBoards();
+        for (RoundSnapshot round : rounds) {
+            applyTo(imported, null, round, username);
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(target -> mergeInto(target, imported));
+        }
+    }
+
+    // Every batch was merged when the import committed
+    @Override
+    public void onRoundsImported(Long userId) {
+    }
+
+    /**
+     * The best {@code limit} rounds on a course, for one season or (season null) all time.
+     * Tied scores share a rank.
+     */
+    public Leaderboard getLeaderboard(String courseName, Integer season, Metric metric, int limit) {
+        if (limit < 1 || limit > size) {
+            throw new IllegalArgumentException("limit must be between 1 and " + size);
+        }
+        Optional<Course> course = courseService.find(courseName);
+        if (course.isEmpty()) {
+            return new Leaderboard(courseName, season, metric.getKey(), List.of());
+        }
+        BoardKey key = new BoardKey(course.get().getId(), season != null ? season : BoardKey.ALL_TIME, metric);
+        Map<BoardKey, Board> current = boards;
+        Board board = current != null ? current.get(key) : null;
+        if (board != null && board.stale) {
+            board = reload(key);
+        }
+
+        List<LeaderboardEntry> entries = new ArrayList<>(limit);
+        if (board != null) {
+            int previousScore = 0;
+            int rank = 0;
+            for (int i = 0; i < board.entries.size() && i < limit; i++) {
+                Entry entry = board.entries.get(i);
+                int score = metric.scoreOf(entry.totalScore, entry.par);
+                if (i == 0 || score != previousScore) {
+                    rank = i + 1;
+                }
+                previousScore = score;
+                entries.add(new LeaderboardEntry(rank, entry.roundId, entry.userId, entry.username, entry.roundDate,
+                        entry.totalScore, entry.par, score));
+            }
+        }
+        return new Leaderboard(course.get().getName(), season, metric.getKey(), entries);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // Boards of the rounds imported in the current transaction, merged into the live ones on commit
+    @SuppressWarnings("unchecked")
+    private Map<BoardKey, Board> importedBoards() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new HashMap<>();
+        }
+        Map<BoardKey, Board> imported = (Map<BoardKey, Board>) TransactionSynchronizationManager.getResource(importResource);
+        if (imported == null) {
+            Map<BoardKey, Board> created = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(importResource, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResource(importResource);
+                    if (status == STATUS_COMMITTED) {
+                        apply(target -> mergeInto(target, created));
+                    }
+                }
+            });
+            imported = created;
+        }
+        return imported;
+    }
+
+    private void apply(Consumer<Map<BoardKey, Board>> change) {
+        synchronized (writeLock) {
+            if (boards != null) {
+                change.accept(boards);
+            }
+            for (List<Consumer<Map<BoardKey, Board>>> journal : journals) {
+                journal.add(change);
+            }
+        }
+    }
+
+    // Idempotent, so replaying a change the rebuild scan already saw is harmless
+    private void applyTo(Map<BoardKey, Board> target, RoundSnapshot before, RoundSnapshot after, String username) {
+        Set<BoardKey> keysAfter = after != null
+                ? keysOf(after.getCourseId(), after.getRoundDate(), after.getTotalScore(), after.getPar())
+                : Set.of();
+        if (before != null) {
+            for (BoardKey key : keysOf(before.getCourseId(), before.getRoundDate(), before.getTotalScore(), before.getPar())) {
+                if (!keysAfter.contains(key)) {
+                    Board board = target.get(key);
+                    if (board != null) {
+                        target.put(key, board.without(before.getId(), size));
+                    }
+                }
+            }
+        }
+        if (after != null) {
+            Entry entry = new Entry(after.getId(), after.getUserId(), username, after.getRoundDate(),
+                    after.getTotalScore(), after.getPar());
+            for (BoardKey key : keysAfter) {
+                Board board = target.getOrDefault(key, Board.EMPTY);
+                target.put(key, board.with(entry, key.metric, size, depth));
+            }
+        }
+    }
+
+    // Idempotent like applyTo. Imported rounds dropped from a board rank below every round it kept,
+    // so the merged board must not count on them either
+    private void mergeInto(Map<BoardKey, Board> target, Map<BoardKey, Board> imported) {
+        for (Map.Entry<BoardKey, Board> importedBoard : imported.entrySet()) {
+            BoardKey key = importedBoard.getKey();
+            Board board = target.getOrDefault(key, Board.EMPTY);
+            for (Entry entry : importedBoard.getValue().entries) {
+                board = board.with(entry, key.metric, size, depth);
+            }
+            if (importedBoard.getValue().truncated && !board.truncated) {
+                board = new Board(board.entries, true, board.stale);
+            }
+            target.put(key, board);
+        }
+    }
+
+    private String usernameOf(RoundSnapshot round) {
+        if (round.getUsername() != null) {
+            usernames.putIfAbsent(round.getUserId(), round.getUsername());
+            return round.getUsername();
+        }
+        return usernames.computeIfAbsent(round.getUserId(),
+                userId -> primaryRead.execute(status -> userRepository.findUsernameById(userId).orElse(null)));
+    }
+
+    private void rebuild() {
+        List<Consumer<Map<BoardKey, Board>>> journal = openJournal();
+        Map<BoardKey, Board> rebuilt;
+        try {
+            rebuilt = scan();
+        } catch (RuntimeException e) {
+            closeJournal(journal);
+            log.error("Could not build course leaderboards", e);
+            return;
+        }
+        synchronized (writeLock) {
+            // The scan may have missed changes committed while it ran
+            replay(closeJournal(journal), rebuilt);
+            boards = rebuilt;
+        }
+        log.info("Built {} course leaderboards", rebuilt.size());
+    }
+
+    private Map<BoardKey, Board> scan() {
+        Map<BoardKey, PriorityQueue<Entry>> best = new HashMap<>();
+        Set<BoardKey> truncated = new HashSet<>();
+        primaryRead.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = golfRoundRepository.streamLeaderboardRows()) {
+                Iterator<Object[]> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    Entry entry = Entry.of(iterator.next());
+                    usernames.putIfAbsent(entry.userId, entry.username);
+                    for (BoardKey key : keysOf(entry.courseId, entry.roundDate, entry.totalScore, entry.par)) {
+                        // Max-heap on the board's order, so the worst kept round is evicted first
+                        PriorityQueue<Entry> heap = best.computeIfAbsent(key,
+                                k -> new PriorityQueue<>(depth + 1, k.metric.order().reversed()));
+                        heap.add(entry);
+                        if (heap.size() > depth) {
+                            heap.poll();
+                            truncated.add(key);
+                        }
+                    }
+                }
+            }
+        });
+        Map<BoardKey, Board> rebuilt = new ConcurrentHashMap<>();
+        for (Map.Entry<BoardKey, PriorityQueue<Entry>> heap : best.entrySet()) {
+            List<Entry> entries = new ArrayList<>(heap.getValue());
+            entries.sort(heap.getKey().metric.order());
+            rebuilt.put(heap.getKey(), new Board(List.copyOf(entries), truncated.contains(heap.getKey()), false));
+        }
+        return rebuilt;
+    }
+
+    // Queries outside writeLock so writes are not held up; concurrent reads of the board may each reload it
+    private Board reload(BoardKey key) {
+        LocalDateTime from = key.season != BoardKey.ALL_TIME ? LocalDate.of(key.season, 1, 1).atStartOfDay() : null;
+        LocalDateTime to = from != null ? from.plusYears(1) : null;
+        List<Consumer<Map<BoardKey, Board>>> journal = openJournal();
+        List<Object[]> rows;
+        try {
+            rows = primaryRead.execute(status -> key.metric == Metric.GROSS
+                    ? golfRoundRepository.findBestGross(key.courseId, from, to, Limit.of(depth))
+                    : golfRoundRepository.findBestToPar(key.courseId, from, to, Limit.of(depth)));
+        } catch (RuntimeException e) {
+            closeJournal(journal);
+            throw e;
+        }
+        List<Entry> entries = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            entries.add(Entry.of(row));
+        }
+        Map<BoardKey, Board> reloaded = new HashMap<>();
+        reloaded.put(key, new Board(List.copyOf(entries), entries.size() == depth, false));
+        synchronized (writeLock) {
+            // The query may have missed changes committed while it ran
+            replay(closeJournal(journal), reloaded);
+            Board board = reloaded.get(key);
+            boards.put(key, board);
+            return board;
+        }
+    }
+
+    private List<Consumer<Map<BoardKey, Board>>> openJournal() {
+        List<Consumer<Map<BoardKey, Board>>> journal = new ArrayList<>();
+        synchronized (writeLock) {
+            journals.add(journal);
+        }
+        return journal;
+    }
+
+    private List<Consumer<Map<BoardKey, Board>>> closeJournal(List<Consumer<Map<BoardKey, Board>>> journal) {
+        synchronized (writeLock) {
+            // By identity: journals compare equal by content
+            journals.removeIf(open -> open == journal);
+        }
+        return journal;
+    }
+
+    private static void replay(List<Consumer<Map<BoardKey, Board>>> journal, Map<BoardKey, Board> target) {
+        for (Consumer<Map<BoardKey, Board>> change : journal) {
+            change.accept(target);
+        }
+    }
+
+    private static Set<BoardKey> keysOf(Integer courseId, LocalDateTime roundDate, Integer totalScore, Integer par) {
+        Set<BoardKey> keys = new HashSet<>();
+        if (courseId == null || roundDate == null) {
+            return keys;
+        }
+        for (Metric metric : Metric.values()) {
+            if (metric.scoreOf(totalScore, par) != null) {
+                keys.add(new BoardKey(courseId, BoardKey.ALL_TIME, metric));
+                keys.add(new BoardKey(courseId, roundDate.getYear(), metric));
+            }
+        }
+        return keys;
+    }
+
+    private static final class BoardKey {
+        static final int ALL_TIME = 0;
+
+        private final Integer courseId;
+        private final int season;
+        private final Metric metric;
+
+        BoardKey(Integer courseId, int season, Metric metric) {
+            this.courseId = courseId;
+            this.season = season;
+            this.metric = metric;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof BoardKey other && season == other.season && metric == other.metric
+                    && courseId.equals(other.courseId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(courseId, season, metric);
+        }
+    }
+
+    private static final class Entry {
+        private final Long roundId;
+        private final Long userId;
+        private final String username;
+        private final Integer courseId;
+        private final LocalDateTime roundDate;
+        private final Integer totalScore;
+        private final Integer par;
+
+        Entry(Long roundId, Long userId, String username, LocalDateTime roundDate, Integer totalScore, Integer par) {
+            this(roundId, userId, username, null, roundDate, totalScore, par);
+        }
+
+        private Entry(Long roundId, Long userId, String username, Integer courseId, LocalDateTime roundDate,
+                      Integer totalScore, Integer par) {
+            this.roundId = roundId;
+            this.userId = userId;
+            this.username = username;
+            this.courseId = courseId;
+            this.roundDate = roundDate;
+            this.totalScore = totalScore;
+            this.par = par;
+        }
+
+        // Row layout of the leaderboard repository queries
+        static Entry of(Object[] row) {
+            return new Entry((Long) row[0], (Long) row[1], (String) row[2], (Integer) row[3], (LocalDateTime) row[4],
+                    row[5] != null ? ((Number) row[5]).intValue() : null,
+                    row[6] != null ? ((Number) row[6]).intValue() : null);
+        }
+    }
+
+    // Sorted best first and immutable. truncated: rounds beyond the kept ones were dropped, so the
+    // board cannot refill itself; stale: it has fewer than `size` entries while truncated
+    private static final class Board {
+        static final Board EMPTY = new Board(List.of(), false, false);
+
+        private final List<Entry> entries;
+        private final boolean truncated;
+        private final boolean stale;
+
+        Board(List<Entry> entries, boolean truncated, boolean stale) {
+            this.entries = entries;
+            this.truncated = truncated;
+            this.stale = stale;
+        }
+
+        Board with(Entry entry, Metric metric, int size, int depth) {
+            List<Entry> updated = new ArrayList<>(entries.size() + 1);
+            for (Entry existing : entries) {
+                if (!existing.roundId.equals(entry.roundId)) {
+                    updated.add(existing);
+                }
+            }
+            Comparator<Entry> order = metric.order();
+            int position = 0;
+            while (position < updated.size() && order.compare(updated.get(position), entry) < 0) {
+                position++;
+            }
+            if (truncated && position == updated.size()) {
+                // Ranks after every kept round; rounds that were dropped may be better, so leave it out
+                return new Board(List.copyOf(updated), true, stale || updated.size() < size);
+            }
+            updated.add(position, entry);
+            boolean nowTruncated = truncated;
+            if (updated.size() > depth) {
+                updated.remove(updated.size() - 1);
+                nowTruncated = true;
+            }
+            return new Board(List.copyOf(updated), nowTruncated, stale);
+        }
+
+        Board without(Long roundId, int size) {
+            List<Entry> updated = new ArrayList<>(entries);
+            if (!updated.removeIf(existing -> existing.roundId.equals(roundId))) {
+                return this;
+            }
+            return new Board(List.copyOf(updated), truncated, stale || (truncated && updated.size() < size));
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.golfdiary.backend.service;
+
+import com.golfdiary.backend.entity.Course;
+import com.golfdiary.backend.entity.GolfRound;
+import com.golfdiary.backend.repository.CourseRepository;
+import com.golfdiary.backend.repository.GolfRoundRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps the course names users type to {@link Course} rows. Courses are never renamed or deleted,
+ * so resolved courses are cached by normalized name and repeat lookups cost no query. A name seen
+ * for the first time creates its course in the caller's transaction with an insert-if-absent, so
+ * concurrent creators wait on the unique name key instead of failing. Courses created by a
+ * transaction are cached once it commits.
+ */
+@Service
+public class CourseService {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseService.class);
+
+    private final CourseRepository courseRepository;
+    private final GolfRoundRepository golfRoundRepository;
+    private final TransactionTemplate transactionTemplate;
+    // Detached courses by name key; treat as read-only
+    private final Map<String, Course> byKey = new ConcurrentHashMap<>();
+    // Transaction resource key for the courses the current transaction created
+    private final Object createdResource = new Object();
+
+    public CourseService(CourseRepository courseRepository, GolfRoundRepository golfRoundRepository,
+                         PlatformTransactionManager transactionManager) {
+        this.courseRepository = courseRepository;
+        this.golfRoundRepository = golfRoundRepository;
+        // Read-write, so creating and re-reading a course always goes to the primary; joins the
+        // round's write transaction when there is one
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Points the round at the course named by its courseName, creating the course if needed, and
+     * replaces courseName with the course's own spelling. Must run in the round's write transaction.
+     */
+    public void assign(GolfRound round) {
+        Course course = resolve(round.getCourseName(), round);
+        round.setCourse(courseRepository.getReferenceById(course.getId()));
+        round.setCourseName(course.getName());
+    }
+
+    // The course with this name, if any round has been recorded on it
+    public Optional<Course> find(String name) {
+        if (name == null || name.isBlank()) {
+            return Optional.empty();
+        }
+        String key = Course.normalize(name);
+        Course cached = byKey.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        // Misses are not cached: the course may be created at any moment
+        Optional<Course> course = courseRepository.findByNameKey(key);
+        course.ifPresent(found -> byKey.putIfAbsent(key, found));
+        return course;
+    }
+
+    /**
+     * Links rounds written before courses existed. Each distinct name is resolved to its course,
+     * so names differing only in case or spacing end up on one course, named after the spelling
+     * most rounds use, and its rounds are updated in one statement. Cheap once everything is
+     * linked: a single query finds nothing to do.
+     */
+    public int backfill() {
+        List<Object[]> names = golfRoundRepository.findUnlinkedCourseNames();
+        int linked = 0;
+        for (Object[] row : names) {
+            String name = (String) row[0];
+            GolfRound template = new GolfRound();
+            template.setPar((Integer) row[1]);
+            template.setCourseRating((Double) row[2]);
+            template.setSlopeRating((Integer) row[3]);
+            Integer updated = transactionTemplate.execute(status -> {
+                Course course = resolve(name, template);
+                return golfRoundRepository.linkCourse(name, courseRepository.getReferenceById(course.getId()),
+                        course.getName());
+            });
+            linked += updated != null ? updated : 0;
+        }
+        if (!names.isEmpty()) {
+            log.info("Linked {} rounds to courses ({} distinct names)", linked, names.size());
+        }
+        return linked;
+    }
+
+    // Every course fits in memory; loading them up front keeps lookups off per-course reads
+    public int preload() {
+        List<Course> courses = transactionTemplate.execute(status -> courseRepository.findAll());
+        courses.forEach(course -> byKey.putIfAbsent(course.getNameKey(), course));
+        return courses.size();
+    }
+
+    private Course resolve(String name, GolfRound template) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("courseName is required");
+        }
+        String key = Course.normalize(name);
+        Course cached = byKey.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        return transactionTemplate.execute(status -> {
+            Map<String, Course> created = createdInTransaction();
+            Course course = created.get(key);
+            if (course != null) {
+                return course;
+            }
+            course = courseRepository.findByNameKey(key).orElse(null);
+            if (course != null) {
+                // Committed, since this transaction has not created it
+                byKey.putIfAbsent(key, course);
+                return byKey.get(key);
+            }
+            Course candidate = new Course(name);
+            courseRepository.insertIfAbsent(candidate.getName(), key, template.getPar(), template.getCourseRating(),
+                    template.getSlopeRating(), LocalDateTime.now());
+            course = courseRepository.findForUpdate(key).orElseThrow();
+            created.put(key, course);
+            return course;
+        });
+    }
+
+    // Not cached until the transaction commits: a rollback takes the course rows with it
+    @SuppressWarnings("unchecked")
+    private Map<String, Course> createdInTransaction() {
+        Map<String, Course> created = (Map<String, Course>) TransactionSynchronizationManager.getResource(createdResource);
+        if (created == null) {
+            Map<String, Course> courses = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(createdResource, courses);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResource(createdResource);
+                    if (status == STATUS_COMMITTED) {
+                        courses.forEach(byKey::putIfAbsent);
+                    }
+                }
+            });
+            created = courses;
+        }
+        return created;
+    }
+}
@@ -0,0 +1,76 @@
+package com.golfdiary.backend.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal RFC 4180 reader: one record per call, quoted fields may contain commas, doubled
+ * quotes and line breaks. Reads straight from the underlying reader without buffering the file.
+ */
+final class CsvRecordReader {
+
+    private final Reader reader;
+    private int pending = -2;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    // Returns null at end of input
+    List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    int nextChar = read();
+                    if (nextChar == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = nextChar;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') {
+                    int nextChar = read();
+                    if (nextChar != '\n') {
+                        pending = nextChar;
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        return reader.read();
+    }
+}
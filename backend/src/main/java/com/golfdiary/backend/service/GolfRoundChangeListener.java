@@ -0,0 +1,18 @@
+package com.golfdiary.backend.service;
+
+import java.util.List;
+
+/**
+ * Notified by {@link GolfRoundService} inside the write transaction whenever a round changes.
+ * {@code before} is null for a newly created round and {@code after} is null for a deleted one.
+ */
+public interface GolfRoundChangeListener {
+    void onRoundChanged(RoundSnapshot before, RoundSnapshot after);
+
+    // Called inside the import transaction for each batch of rounds a bulk import inserts
+    default void onRoundsInserted(List<RoundSnapshot> rounds) {
+    }
+
+    // Called once after a bulk import instead of once per inserted round
+    void onRoundsImported(Long userId);
+}
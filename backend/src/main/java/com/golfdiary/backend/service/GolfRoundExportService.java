@@ -0,0 +1,188 @@
+package com.golfdiary.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.golfdiary.backend.entity.GolfRound;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes a user's full round history straight from a streaming result set to the response.
+ * Each entity is detached once written, so memory stays flat regardless of history size.
+ */
+@Service
+public class GolfRoundExportService {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format fromParam(String value) {
+            for (Format format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported export format: " + value);
+        }
+    }
+
+    private static final String[] CSV_HEADER = {
+        "id", "courseName", "roundDate", "totalScore", "par", "birdies", "pars", "bogeys",
+        "doubleBogeys", "other", "courseRating", "slopeRating", "scorecard", "weather", "notes", "createdAt", "updatedAt"
+    };
+
+    // Flush the response every N rows so the client starts receiving data immediately
+    private static final int FLUSH_EVERY = 500;
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    // Integer.MIN_VALUE makes MySQL Connector/J stream rows one at a time on this statement only;
+    // other drivers take a positive row count
+    private final int fetchSize;
+
+    public GolfRoundExportService(EntityManager entityManager, ObjectMapper objectMapper,
+                                  @Value("${golf-rounds.export.fetch-size:-2147483648}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    @Transactional(readOnly = true)
+    public void export(Long userId, Format format, OutputStream out) throws IOException {
+        Stream<GolfRound> stream = entityManager.createQuery(
+                        "SELECT r FROM GolfRound r WHERE r.user.id = :userId ORDER BY r.roundDate DESC, r.id DESC",
+                        GolfRound.class)
+                .setParameter("userId", userId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+        try (Stream<GolfRound> rounds = stream) {
+            if (format == Format.CSV) {
+                writeCsv(rounds.iterator(), out);
+            } else {
+                writeNdjson(rounds.iterator(), out);
+            }
+        }
+    }
+
+    private void writeNdjson(Iterator<GolfRound> rounds, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Rows are separated by newlines only, not Jackson's default root separator
+        generator.setRootValueSeparator(null);
+        int written = 0;
+        while (rounds.hasNext()) {
+            GolfRound round = rounds.next();
+            generator.writeStartObject();
+            generator.writeNumberField("id", round.getId());
+            generator.writeStringField("courseName", round.getCourseName());
+            writeString(generator, "roundDate", round.getRoundDate());
+            writeNumber(generator, "totalScore", round.getTotalScore());
+            writeNumber(generator, "par", round.getPar());
+            writeNumber(generator, "birdies", round.getBirdies());
+            writeNumber(generator, "pars", round.getPars());
+            writeNumber(generator, "bogeys", round.getBogeys());
+            writeNumber(generator, "doubleBogeys", round.getDoubleBogeys());
+            writeNumber(generator, "other", round.getOther());
+            if (round.getCourseRating() == null) {
+                generator.writeNullField("courseRating");
+            } else {
+                generator.writeNumberField("courseRating", round.getCourseRating());
+            }
+            writeNumber(generator, "slopeRating", round.getSlopeRating());
+            generator.writeObjectField("scorecard", round.getScorecard());
+            generator.writeStringField("weather", round.getWeather());
+            generator.writeStringField("notes", round.getNotes());
+            writeString(generator, "createdAt", round.getCreatedAt());
+            writeString(generator, "updatedAt", round.getUpdatedAt());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            entityManager.detach(round);
+            if (++written % FLUSH_EVERY == 0) {
+                generator.flush();
+            }
+        }
+        generator.close();
+    }
+
+    private void writeCsv(Iterator<GolfRound> rounds, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(String.join(",", CSV_HEADER));
+        writer.write("\r\n");
+        int written = 0;
+        while (rounds.hasNext()) {
+            GolfRound round = rounds.next();
+            writeCsvRow(writer,
+                    round.getId(), round.getCourseName(), round.getRoundDate(), round.getTotalScore(),
+                    round.getPar(), round.getBirdies(), round.getPars(), round.getBogeys(),
+                    round.getDoubleBogeys(), round.getOther(), round.getCourseRating(), round.getSlopeRating(),
+                    round.getScorecard(), round.getWeather(), round.getNotes(),
+                    round.getCreatedAt(), round.getUpdatedAt());
+            entityManager.detach(round);
+            if (++written % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    private void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static void writeNumber(JsonGenerator generator, String field, Integer value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeNumberField(field, value);
+        }
+    }
+
+    private static void writeString(JsonGenerator generator, String field, Object value) throws IOException {
+        generator.writeStringField(field, value != null ? value.toString() : null);
+    }
+}
@@ -0,0 +1,346 @@
+package com.golfdiary.backend.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.golfdiary.backend.dto.RoundImportError;
+import com.golfdiary.backend.dto.RoundImportResult;
+import com.golfdiary.backend.entity.GolfRound;
+import com.golfdiary.backend.entity.Scorecard;
+import com.golfdiary.backend.entity.ScorecardConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Imports a round history in one streaming pass: each JSON element or CSV record is validated
+ * as it is read, and valid rows are written with JDBC batch inserts instead of one
+ * {@code save()} per round. Invalid rows are skipped and reported back with their row number.
+ */
+@Service
+public class GolfRoundImportService {
+
+    public enum Format {
+        JSON, CSV;
+
+        public static Format fromContentType(String contentType) {
+            if (contentType != null && contentType.toLowerCase().startsWith("text/csv")) {
+                return CSV;
+            }
+            return JSON;
+        }
+
+        public static Format fromFilename(String filename) {
+            return filename != null && filename.toLowerCase().endsWith(".csv") ? CSV : JSON;
+        }
+    }
+
+    private static final String INSERT_SQL = "INSERT INTO golf_rounds (user_id, course_name, round_date, "
+            + "total_score, par, birdies, pars, bogeys, double_bogeys, other, course_rating, slope_rating, "
+            + "score_differential, scorecard, weather, notes, created_at, updated_at, course_id) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    // Per-row errors returned to the client; the rejected count is always exact
+    private static final int MAX_REPORTED_ERRORS = 500;
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final ScorecardConverter SCORECARD_CONVERTER = new ScorecardConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final CourseService courseService;
+    private final List<GolfRoundChangeListener> changeListeners;
+
+    @Value("${golf-rounds.import.batch-size:500}")
+    private int batchSize;
+
+    public GolfRoundImportService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, CourseService courseService,
+                                  List<GolfRoundChangeListener> changeListeners) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.courseService = courseService;
+        this.changeListeners = changeListeners;
+    }
+
+    @Transactional
+    public RoundImportResult importRounds(Long userId, Format format, InputStream in) throws IOException {
+        Importer importer = new Importer(userId);
+        if (format == Format.CSV) {
+            readCsv(in, importer);
+        } else {
+            readJson(in, importer);
+        }
+        importer.flush();
+
+        if (importer.result.getImported() > 0) {
+            for (GolfRoundChangeListener listener : changeListeners) {
+                listener.onRoundsImported(userId);
+            }
+        }
+        return importer.result;
+    }
+
+    private void readJson(InputStream in, Importer importer) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array of rounds");
+            }
+            int row = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                row++;
+                JsonNode node = parser.readValueAsTree();
+                if (node == null || !node.isObject()) {
+                    importer.reject(row, "Expected a JSON object");
+                    continue;
+                }
+                Map<String, String> fields = new HashMap<>();
+                node.fields().forEachRemaining(field -> {
+                    if (!field.getValue().isNull()) {
+                        fields.put(field.getKey(), field.getValue().asText());
+                    }
+                });
+                // The NDJSON export writes the scorecard as an object; reduce it to the CSV text form
+                JsonNode scorecard = node.get("scorecard");
+                if (scorecard != null && scorecard.isObject()) {
+                    try {
+                        fields.put("scorecard", objectMapper.treeToValue(scorecard, Scorecard.class).toString());
+                    } catch (JsonProcessingException e) {
+                        importer.reject(row, e.getCause() instanceof IllegalArgumentException
+                                ? e.getCause().getMessage() : "scorecard is invalid: " + e.getOriginalMessage());
+                        continue;
+                    }
+                }
+                importer.accept(row, fields);
+            }
+        }
+    }
+
+    private void readCsv(InputStream in, Importer importer) throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(
+                new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV upload is empty");
+        }
+        // Tolerate a UTF-8 byte order mark from spreadsheet exports
+        header.set(0, header.get(0).replace("\uFEFF", ""));
+
+        int row = 0;
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            row++;
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            if (record.size() > header.size()) {
+                importer.reject(row, "Row has " + record.size() + " columns, header has " + header.size());
+                continue;
+            }
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < record.size(); i++) {
+                if (!record.get(i).isEmpty()) {
+                    fields.put(header.get(i).trim(), record.get(i));
+                }
+            }
+            importer.accept(row, fields);
+        }
+    }
+
+    // Field names match the JSON properties of GolfRound and the export CSV header
+    private static GolfRound toRound(Map<String, String> fields) {
+        GolfRound round = new GolfRound();
+        String courseName = fields.get("courseName");
+        if (courseName == null || courseName.isBlank()) {
+            throw new IllegalArgumentException("courseName is required");
+        }
+        round.setCourseName(text("courseName", courseName.trim()));
+        round.setRoundDate(parseDate(fields.get("roundDate")));
+        round.setTotalScore(parseInt(fields, "totalScore", 1, 300));
+        round.setPar(parseInt(fields, "par", 1, 150));
+        round.setBirdies(parseInt(fields, "birdies", 0, 36));
+        round.setPars(parseInt(fields, "pars", 0, 36));
+        round.setBogeys(parseInt(fields, "bogeys", 0, 36));
+        round.setDoubleBogeys(parseInt(fields, "doubleBogeys", 0, 36));
+        round.setOther(parseInt(fields, "other", 0, 36));
+        round.setSlopeRating(parseInt(fields, "slopeRating", 55, 155));
+        String courseRating = fields.get("courseRating");
+        if (courseRating != null) {
+            try {
+                double rating = Double.parseDouble(courseRating.trim());
+                if (rating <= 0 || rating >= 100) {
+                    throw new IllegalArgumentException("courseRating must be between 0 and 100");
+                }
+                round.setCourseRating(rating);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("courseRating is not a number: " + courseRating);
+            }
+        }
+        String scorecard = fields.get("scorecard");
+        if (scorecard != null && !scorecard.isBlank()) {
+            round.setScorecard(Scorecard.parse(scorecard));
+        }
+        round.setWeather(text("weather", fields.get("weather")));
+        round.setNotes(text("notes", fields.get("notes")));
+        round.applyScorecard();
+        round.recalculateScoreDifferential();
+        return round;
+    }
+
+    private static LocalDateTime parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("roundDate is required");
+        }
+        String trimmed = value.trim();
+        try {
+            return trimmed.length() == 10 ? LocalDate.parse(trimmed).atStartOfDay() : LocalDateTime.parse(trimmed);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("roundDate is not an ISO date: " + value);
+        }
+    }
+
+    private static Integer parseInt(Map<String, String> fields, String name, int min, int max) {
+        String value = fields.get(name);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        int parsed;
+        try {
+            parsed = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " is not a whole number: " + value);
+        }
+        if (parsed < min || parsed > max) {
+            throw new IllegalArgumentException(name + " must be between " + min + " and " + max);
+        }
+        return parsed;
+    }
+
+    private static String text(String name, String value) {
+        if (value != null && value.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException(name + " is longer than " + MAX_TEXT_LENGTH + " characters");
+        }
+        return value;
+    }
+
+    private static void setNullable(PreparedStatement ps, int index, Object value, int sqlType) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, sqlType);
+        } else {
+            ps.setObject(index, value, sqlType);
+        }
+    }
+
+    private final class Importer {
+        private final Long userId;
+        private final List<GolfRound> batch = new ArrayList<>();
+        private final RoundImportResult result = new RoundImportResult();
+
+        private Importer(Long userId) {
+            this.userId = userId;
+        }
+
+        void accept(int row, Map<String, String> fields) {
+            GolfRound round;
+            try {
+                round = toRound(fields);
+                // Cached after the first round on each course
+                courseService.assign(round);
+            } catch (IllegalArgumentException e) {
+                reject(row, e.getMessage());
+                return;
+            }
+            batch.add(round);
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(int row, String message) {
+            result.setRejected(result.getRejected() + 1);
+            if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+                result.getErrors().add(new RoundImportError(row, message));
+            } else {
+                result.setErrorsTruncated(true);
+            }
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            KeyHolder keys = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, new String[] {"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            bind(ps, batch.get(i));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return batch.size();
+                        }
+                    }, keys);
+            List<RoundSnapshot> inserted = new ArrayList<>(batch.size());
+            // One key per row; the MySQL driver names it GENERATED_KEY rather than id
+            List<Map<String, Object>> ids = keys.getKeyList();
+            for (int i = 0; i < batch.size(); i++) {
+                Number id = (Number) ids.get(i).values().iterator().next();
+                inserted.add(RoundSnapshot.imported(batch.get(i), id.longValue(), userId));
+            }
+            for (GolfRoundChangeListener listener : changeListeners) {
+                listener.onRoundsInserted(inserted);
+            }
+            result.setImported(result.getImported() + batch.size());
+            batch.clear();
+        }
+
+        private void bind(PreparedStatement ps, GolfRound round) throws SQLException {
+            ps.setLong(1, userId);
+            ps.setString(2, round.getCourseName());
+            ps.setTimestamp(3, Timestamp.valueOf(round.getRoundDate()));
+            setNullable(ps, 4, round.getTotalScore(), Types.INTEGER);
+            setNullable(ps, 5, round.getPar(), Types.INTEGER);
+            setNullable(ps, 6, round.getBirdies(), Types.INTEGER);
+            setNullable(ps, 7, round.getPars(), Types.INTEGER);
+            setNullable(ps, 8, round.getBogeys(), Types.INTEGER);
+            setNullable(ps, 9, round.getDoubleBogeys(), Types.INTEGER);
+            setNullable(ps, 10, round.getOther(), Types.INTEGER);
+            setNullable(ps, 11, round.getCourseRating(), Types.DOUBLE);
+            setNullable(ps, 12, round.getSlopeRating(), Types.INTEGER);
+            setNullable(ps, 13, round.getScoreDifferential(), Types.DOUBLE);
+            if (round.getScorecard() == null) {
+                ps.setNull(14, Types.VARBINARY);
+            } else {
+                ps.setBytes(14, SCORECARD_CONVERTER.convertToDatabaseColumn(round.getScorecard()));
+            }
+            setNullable(ps, 15, round.getWeather(), Types.VARCHAR);
+            setNullable(ps, 16, round.getNotes(), Types.VARCHAR);
+            ps.setTimestamp(17, Timestamp.valueOf(round.getCreatedAt()));
+            ps.setTimestamp(18, Timestamp.valueOf(round.getUpdatedAt()));
+            ps.setInt(19, round.getCourseId());
+        }
+    }
+}
@@ -1,9 +1,16 @@
 package com.golfdiary.backend.service;
 
+import com.golfdiary.backend.dto.RoundPage;
+import com.golfdiary.backend.dto.RoundStatistics;
+import com.golfdiary.backend.entity.Course;
 import com.golfdiary.backend.entity.GolfRound;
 import com.golfdiary.backend.entity.User;
 import com.golfdiary.backend.repository.GolfRoundRepository;
+import com.golfdiary.backend.repository.ShotRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -13,36 +20,136 @@ import java.util.Optional;
 public class GolfRoundService {
 
     private final GolfRoundRepository golfRoundRepository;
+    private final ShotRepository shotRepository;
+    private final CourseService courseService;
+    private final List<GolfRoundChangeListener> changeListeners;
 
-    public GolfRoundService(GolfRoundRepository golfRoundRepository) {
+    @Value("${golf-rounds.page.default-size:50}")
+    private int defaultPageSize;
+
+    @Value("${golf-rounds.page.max-size:200}")
+    private int maxPageSize;
+
+    public GolfRoundService(GolfRoundRepository golfRoundRepository, ShotRepository shotRepository,
+                            CourseService courseService, List<GolfRoundChangeListener> changeListeners) {
         this.golfRoundRepository = golfRoundRepository;
+        this.shotRepository = shotRepository;
+        this.courseService = courseService;
+        this.changeListeners = changeListeners;
     }
 
+    @Transactional
     public GolfRound createGolfRound(GolfRound golfRound) {
-        return golfRoundRepository.save(golfRound);
+        golfRound.applyScorecard();
+        golfRound.recalculateScoreDifferential();
+        courseService.assign(golfRound);
+        GolfRound saved = golfRoundRepository.save(golfRound);
+        notifyListeners(null, RoundSnapshot.of(saved));
+        return saved;
     }
 
-    public List<GolfRound> getAllRoundsByUser(User user) {
-        return golfRoundRepository.findByUserOrderByRoundDateDesc(user);
+    @Transactional(readOnly = true)
+    public RoundPage getRoundsPage(User user, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        if (cursor == null || cursor.isBlank()) {
+            return toPage(golfRoundRepository.findByUserOrderByRoundDateDescIdDesc(user, limit), pageSize);
+        }
+        RoundCursor after = RoundCursor.decode(cursor);
+        return toPage(golfRoundRepository.findPageAfter(user, after.getRoundDate(), after.getId(), limit), pageSize);
     }
 
-    public List<GolfRound> getRoundsByUserAndDateRange(User user, LocalDateTime startDate, LocalDateTime endDate) {
-        return golfRoundRepository.findByUserAndRoundDateBetweenOrderByRoundDateDesc(user, startDate, endDate);
+    @Transactional(readOnly = true)
+    public RoundPage getRoundsPageByCourse(User user, String courseName, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        RoundCursor after = cursor == null || cursor.isBlank() ? null : RoundCursor.decode(cursor);
+        Optional<Course> course = courseService.find(courseName);
+        if (course.isEmpty()) {
+            return toPage(List.of(), pageSize);
+        }
+        Integer courseId = course.get().getId();
+        if (after == null) {
+            return toPage(golfRoundRepository.findByUserAndCourse_IdOrderByRoundDateDescIdDesc(user, courseId, limit), pageSize);
+        }
+        return toPage(golfRoundRepository.findCoursePageAfter(user, courseId, after.getRoundDate(), after.getId(), limit), pageSize);
     }
 
-    public List<GolfRound> getRoundsByUserAndCourse(User user, String courseName) {
-        return golfRoundRepository.findByUserAndCourseNameOrderByRoundDateDesc(user, courseName);
+    @Transactional(readOnly = true)
+    public RoundPage getRoundsPageByDateRange(User user, LocalDateTime startDate, LocalDateTime endDate,
+                                              String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        if (cursor == null || cursor.isBlank()) {
+            return toPage(golfRoundRepository.findByUserAndRoundDateBetweenOrderByRoundDateDescIdDesc(user, startDate, endDate, limit), pageSize);
+        }
+        RoundCursor after = RoundCursor.decode(cursor);
+        return toPage(golfRoundRepository.findDateRangePageAfter(user, startDate, endDate,
+                after.getRoundDate(), after.getId(), limit), pageSize);
     }
 
+    @Transactional(readOnly = true)
+    public RoundStatistics getStatistics(User user, String courseName, LocalDateTime startDate, LocalDateTime endDate) {
+        Integer courseId = null;
+        if (courseName != null) {
+            Optional<Course> course = courseService.find(courseName);
+            if (course.isEmpty()) {
+                return new RoundStatistics();
+            }
+            courseId = course.get().getId();
+        }
+        return golfRoundRepository.aggregateStatistics(user, courseId, startDate, endDate);
+    }
+
+    @Transactional(readOnly = true)
     public Optional<GolfRound> getRoundById(Long id) {
         return golfRoundRepository.findById(id);
     }
 
+    @Transactional
     public GolfRound updateGolfRound(GolfRound golfRound) {
-        return golfRoundRepository.save(golfRound);
+        // Snapshot before save: merging overwrites the managed instance in place
+        RoundSnapshot before = golfRoundRepository.findById(golfRound.getId()).map(RoundSnapshot::of).orElse(null);
+        golfRound.applyScorecard();
+        golfRound.recalculateScoreDifferential();
+        courseService.assign(golfRound);
+        GolfRound saved = golfRoundRepository.save(golfRound);
+        notifyListeners(before, RoundSnapshot.of(saved));
+        return saved;
     }
 
+    @Transactional
     public void deleteGolfRound(Long id) {
-        golfRoundRepository.deleteById(id);
+        Optional<GolfRound> existing = golfRoundRepository.findById(id);
+        if (existing.isEmpty()) {
+            return;
+        }
+        RoundSnapshot before = RoundSnapshot.of(existing.get());
+        shotRepository.deleteByRoundId(id);
+        golfRoundRepository.delete(existing.get());
+        notifyListeners(before, null);
+    }
+
+    private void notifyListeners(RoundSnapshot before, RoundSnapshot after) {
+        for (GolfRoundChangeListener listener : changeListeners) {
+            listener.onRoundChanged(before, after);
+        }
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null || size <= 0) {
+            return defaultPageSize;
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    // Rows are fetched with one extra element to detect whether another page exists
+    private RoundPage toPage(List<GolfRound> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new RoundPage(rows, null, pageSize);
+        }
+        List<GolfRound> items = rows.subList(0, pageSize);
+        String nextCursor = RoundCursor.after(items.get(pageSize - 1)).encode();
+        return new RoundPage(items, nextCursor, pageSize);
     }
-} 
\ No newline at end of file
+}
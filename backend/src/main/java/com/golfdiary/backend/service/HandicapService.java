@@ -0,0 +1,123 @@
+package com.golfdiary.backend.service;
+
+import com.golfdiary.backend.dto.HandicapSummary;
+import com.golfdiary.backend.entity.HandicapHistory;
+import com.golfdiary.backend.repository.GolfRoundRepository;
+import com.golfdiary.backend.repository.HandicapHistoryRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps each user's handicap index current as rounds are written. The common case, a new
+ * round newer than everything in the window, is appended in O(log n); edits, deletes and
+ * back-dated rounds reload the window with one query bounded to 20 rows.
+ */
+@Service
+public class HandicapService implements GolfRoundChangeListener {
+
+    private final GolfRoundRepository golfRoundRepository;
+    private final HandicapHistoryRepository historyRepository;
+    private final Map<Long, HandicapWindow> windows = new ConcurrentHashMap<>();
+
+    public HandicapService(GolfRoundRepository golfRoundRepository, HandicapHistoryRepository historyRepository) {
+        this.golfRoundRepository = golfRoundRepository;
+        this.historyRepository = historyRepository;
+    }
+
+    @Override
+    @Transactional
+    public void onRoundChanged(RoundSnapshot before, RoundSnapshot after) {
+        boolean hadDifferential = before != null && before.getScoreDifferential() != null;
+        boolean hasDifferential = after != null && after.getScoreDifferential() != null;
+        if (!hadDifferential && !hasDifferential) {
+            return;
+        }
+
+        Long userId = after != null ? after.getUserId() : before.getUserId();
+        HandicapWindow window = windows.get(userId);
+        boolean appended = false;
+        if (window != null && !hadDifferential) {
+            // Check and append under one lock so a concurrent write cannot change the window in between
+            synchronized (window) {
+                if (window.acceptsAppend(after.getId(), after.getRoundDate())) {
+                    window.append(after.getId(), after.getRoundDate(), after.getScoreDifferential());
+                    appended = true;
+                }
+            }
+        }
+        if (!appended) {
+            window = loadWindow(userId);
+            windows.put(userId, window);
+        }
+        recordIfChanged(userId, window);
+        evictOnRollback(userId);
+    }
+
+    @Override
+    @Transactional
+    public void onRoundsImported(Long userId) {
+        HandicapWindow window = loadWindow(userId);
+        windows.put(userId, window);
+        recordIfChanged(userId, window);
+        evictOnRollback(userId);
+    }
+
+    // The in-memory window must not survive a rolled back write
+    private void evictOnRollback(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        windows.remove(userId);
+                    }
+                }
+            });
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public HandicapSummary getCurrentHandicap(Long userId) {
+        HandicapWindow window = windows.computeIfAbsent(userId, this::loadWindow);
+        synchronized (window) {
+            return new HandicapSummary(window.index(), window.size(), window.differentialsUsed());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<HandicapHistory> getHistory(Long userId, int limit) {
+        return historyRepository.findByUserIdOrderByComputedAtDescIdDesc(userId, Limit.of(limit));
+    }
+
+    private void recordIfChanged(Long userId, HandicapWindow window) {
+        synchronized (window) {
+            Double index = window.index();
+            if (!Objects.equals(index, window.getLastRecordedIndex())) {
+                historyRepository.save(new HandicapHistory(userId, index, window.size()));
+                window.setLastRecordedIndex(index);
+            }
+        }
+    }
+
+    private HandicapWindow loadWindow(Long userId) {
+        List<Object[]> newestFirst = golfRoundRepository.findRecentDifferentials(userId, Limit.of(HandicapWindow.SIZE));
+        HandicapWindow window = new HandicapWindow();
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            Object[] row = newestFirst.get(i);
+            window.append((Long) row[0], (LocalDateTime) row[1], ((Number) row[2]).doubleValue());
+        }
+        window.setLastRecordedIndex(historyRepository.findFirstByUserIdOrderByComputedAtDescIdDesc(userId)
+                .map(HandicapHistory::getHandicapIndex)
+                .orElse(null));
+        return window;
+    }
+}
@@ -0,0 +1,91 @@
+package com.golfdiary.backend.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Sliding window over a user's 20 most recent score differentials. Rounds are kept in date
+ * order for eviction and in a sorted multiset for best-N selection, so appending a new round
+ * is O(log 20) and computing the index only walks the few lowest differentials.
+ */
+final class HandicapWindow {
+
+    static final int SIZE = 20;
+
+    // Differentials used and adjustment for 0..20 rounds in the window (WHS table)
+    private static final int[] USED = {0, 0, 0, 1, 1, 1, 2, 2, 2, 3, 3, 3, 4, 4, 4, 5, 5, 6, 6, 7, 8};
+    private static final double[] ADJUSTMENT = {0, 0, 0, -2.0, -1.0, 0, -1.0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0};
+    private static final double MAX_INDEX = 54.0;
+
+    private final ArrayDeque<Entry> rounds = new ArrayDeque<>();
+    private final TreeMap<Double, Integer> sorted = new TreeMap<>();
+    private Double lastRecordedIndex;
+
+    // True when the round is newer than everything in the window, so it can simply be appended
+    boolean acceptsAppend(Long roundId, LocalDateTime roundDate) {
+        if (rounds.isEmpty()) {
+            return true;
+        }
+        Entry newest = rounds.peekLast();
+        int byDate = roundDate.compareTo(newest.roundDate);
+        return byDate > 0 || (byDate == 0 && roundId > newest.roundId);
+    }
+
+    void append(Long roundId, LocalDateTime roundDate, double differential) {
+        rounds.addLast(new Entry(roundId, roundDate, differential));
+        sorted.merge(differential, 1, Integer::sum);
+        if (rounds.size() > SIZE) {
+            Entry oldest = rounds.removeFirst();
+            sorted.computeIfPresent(oldest.differential, (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    int size() {
+        return rounds.size();
+    }
+
+    int differentialsUsed() {
+        return USED[rounds.size()];
+    }
+
+    Double index() {
+        int used = differentialsUsed();
+        if (used == 0) {
+            return null;
+        }
+        double sum = 0;
+        int taken = 0;
+        Iterator<Map.Entry<Double, Integer>> lowest = sorted.entrySet().iterator();
+        while (taken < used && lowest.hasNext()) {
+            Map.Entry<Double, Integer> entry = lowest.next();
+            int count = Math.min(entry.getValue(), used - taken);
+            sum += entry.getKey() * count;
+            taken += count;
+        }
+        double index = sum / used + ADJUSTMENT[rounds.size()];
+        return Math.min(Math.round(index * 10) / 10.0, MAX_INDEX);
+    }
+
+    Double getLastRecordedIndex() {
+        return lastRecordedIndex;
+    }
+
+    void setLastRecordedIndex(Double lastRecordedIndex) {
+        this.lastRecordedIndex = lastRecordedIndex;
+    }
+
+    private static final class Entry {
+        private final Long roundId;
+        private final LocalDateTime roundDate;
+        private final double differential;
+
+        private Entry(Long roundId, LocalDateTime roundDate, double differential) {
+            this.roundId = roundId;
+            this.roundDate = roundDate;
+            this.differential = differential;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.golfdiary.backend.service;
+
+import com.golfdiary.backend.dto.LessonSummary;
+import com.golfdiary.backend.entity.LessonCategory;
+import com.golfdiary.backend.entity.LessonLevel;
+import com.golfdiary.backend.repository.LessonRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-memory index of published lessons by category and level. Each snapshot is built with one
+ * summary query, holds immutable pre-sorted lists (newest first) and is swapped in atomically, so
+ * the public catalog endpoints do not touch the database until a lesson write invalidates it.
+ */
+@Component
+public class LessonCatalog {
+
+    private final LessonRepository lessonRepository;
+    private final TransactionTemplate primaryRead;
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    public LessonCatalog(LessonRepository lessonRepository, PlatformTransactionManager transactionManager) {
+        this.lessonRepository = lessonRepository;
+        // Read-write with the default REQUIRED propagation: called outside a transaction, as every
+        // LessonService caller does, it opens its own and reads the primary, so a lagging replica cannot
+        // be cached here until the next lesson write. Inside a caller's transaction it would join that one
+        this.primaryRead = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        current();
+    }
+
+    public List<LessonSummary> getPublished() {
+        return current().all;
+    }
+
+    public List<LessonSummary> getByCategory(LessonCategory category) {
+        return current().byCategory.get(category);
+    }
+
+    public List<LessonSummary> getByLevel(LessonLevel level) {
+        return current().byLevel.get(level);
+    }
+
+    public List<LessonSummary> getByCategoryAndLevel(LessonCategory category, LessonLevel level) {
+        return current().cells.get(category).get(level);
+    }
+
+    // Bumped on every invalidation; identifies the catalog contents a response was built from
+    public long getVersion() {
+        return version.get();
+    }
+
+    // Bumps the version after the surrounding transaction commits, or at once when there is none; the
+    // next read rebuilds the snapshot
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    version.incrementAndGet();
+                }
+            });
+        } else {
+            version.incrementAndGet();
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current != null && current.version == version.get()) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot.get();
+            long expected = version.get();
+            if (current != null && current.version == expected) {
+                return current;
+            }
+            // An invalidation racing with this load leaves the version ahead, so the next read rebuilds again
+            List<LessonSummary> lessons = primaryRead.execute(status -> lessonRepository.findPublishedSummaries());
+            Snapshot rebuilt = new Snapshot(expected, lessons);
+            snapshot.set(rebuilt);
+            return rebuilt;
+        }
+    }
+
+    private static final class Snapshot {
+        private final long version;
+        private final List<LessonSummary> all;
+        private final Map<LessonCategory, List<LessonSummary>> byCategory = new EnumMap<>(LessonCategory.class);
+        private final Map<LessonLevel, List<LessonSummary>> byLevel = new EnumMap<>(LessonLevel.class);
+        private final Map<LessonCategory, Map<LessonLevel, List<LessonSummary>>> cells = new EnumMap<>(LessonCategory.class);
+
+        // Lessons arrive sorted newest first, and bucketing preserves that order
+        private Snapshot(long version, List<LessonSummary> lessons) {
+            this.version = version;
+            this.all = List.copyOf(lessons);
+
+            Map<LessonCategory, Map<LessonLevel, List<LessonSummary>>> building = new EnumMap<>(LessonCategory.class);
+            Map<LessonCategory, List<LessonSummary>> buildingByCategory = new EnumMap<>(LessonCategory.class);
+            Map<LessonLevel, List<LessonSummary>> buildingByLevel = new EnumMap<>(LessonLevel.class);
+            for (LessonCategory category : LessonCategory.values()) {
+                Map<LessonLevel, List<LessonSummary>> row = new EnumMap<>(LessonLevel.class);
+                for (LessonLevel level : LessonLevel.values()) {
+                    row.put(level, new ArrayList<>());
+                }
+                building.put(category, row);
+                buildingByCategory.put(category, new ArrayList<>());
+            }
+            for (LessonLevel level : LessonLevel.values()) {
+                buildingByLevel.put(level, new ArrayList<>());
+            }
+            for (LessonSummary lesson : all) {
+                building.get(lesson.getCategory()).get(lesson.getLevel()).add(lesson);
+                buildingByCategory.get(lesson.getCategory()).add(lesson);
+                buildingByLevel.get(lesson.getLevel()).add(lesson);
+            }
+
+            building.forEach((category, row) -> {
+                Map<LessonLevel, List<LessonSummary>> frozen = new EnumMap<>(LessonLevel.class);
+                row.forEach((level, list) -> frozen.put(level, List.copyOf(list)));
+                cells.put(category, frozen);
+            });
+            buildingByCategory.forEach((category, list) -> byCategory.put(category, List.copyOf(list)));
+            buildingByLevel.forEach((level, list) -> byLevel.put(level, List.copyOf(list)));
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.golfdiary.backend.service;
+
+import com.golfdiary.backend.dto.LessonSummary;
+import com.golfdiary.backend.entity.Lesson;
+import com.golfdiary.backend.entity.User;
+import com.golfdiary.backend.repository.LessonRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over the title, description and content of published lessons,
+ * ranked with BM25. Terms are kept in a sorted map so the query's words also match as prefixes
+ * (search-as-you-type). The index is built once at startup and then updated per lesson by
+ * {@link LessonService}, so searches never touch the database.
+ */
+@Component
+public class LessonSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+    // Prefix expansions score below an exact match and are capped per query word
+    private static final double PREFIX_WEIGHT = 0.7;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    // Bounds memory per lesson: long content only contributes its first N tokens
+    private static final int MAX_TOKENS_PER_LESSON = 5000;
+    private static final int MAX_TERM_LENGTH = 32;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it", "of", "on",
+            "or", "that", "the", "this", "to", "with", "your", "you");
+
+    private final LessonRepository lessonRepository;
+    private final EntityManager entityManager;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private Map<Long, Document> documents = new HashMap<>();
+    private long totalLength;
+
+    public LessonSearchIndex(LessonRepository lessonRepository, EntityManager entityManager) {
+        this.lessonRepository = lessonRepository;
+        this.entityManager = entityManager;
+    }
+
+    // Full build from the database, streamed so the lesson bodies are never all in memory at once
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        NavigableMap<String, Map<Long, Integer>> newPostings = new TreeMap<>();
+        Map<Long, Document> newDocuments = new HashMap<>();
+        long newTotalLength = 0;
+        try (Stream<Lesson> lessons = lessonRepository.streamPublishedWithInstructor()) {
+            Iterator<Lesson> iterator = lessons.iterator();
+            while (iterator.hasNext()) {
+                Lesson lesson = iterator.next();
+                Document document = toDocument(lesson);
+                addPostings(newPostings, lesson.getId(), document);
+                newDocuments.put(lesson.getId(), document);
+                newTotalLength += document.length;
+                entityManager.detach(lesson);
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            documents = newDocuments;
+            totalLength = newTotalLength;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Adds, replaces or (for unpublished lessons) removes the lesson once the write commits
+    public void update(Lesson lesson) {
+        if (!lesson.isPublished()) {
+            remove(lesson.getId());
+            return;
+        }
+        Document document = toDocument(lesson);
+        Long id = lesson.getId();
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeLocked(id);
+                addPostings(postings, id, document);
+                documents.put(id, document);
+                totalLength += document.length;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public void remove(Long lessonId) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeLocked(lessonId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    public List<LessonSummary> search(String query, int limit) {
+        Set<String> words = new LinkedHashSet<>(tokenize(query, Integer.MAX_VALUE));
+        if (words.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / documentCount;
+
+            Map<Long, Double> scores = new HashMap<>();
+            for (String word : words) {
+                // Best match per lesson for this word, so several expansions don't add up
+                Map<Long, Double> wordScores = new HashMap<>();
+                Map<Long, Integer> exact = postings.get(word);
+                if (exact != null) {
+                    score(exact, 1.0, documentCount, averageLength, wordScores);
+                }
+                int expansions = 0;
+                for (Map.Entry<String, Map<Long, Integer>> term
+                        : postings.subMap(word, false, word + Character.MAX_VALUE, false).entrySet()) {
+                    if (++expansions > MAX_PREFIX_EXPANSIONS) {
+                        break;
+                    }
+                    score(term.getValue(), PREFIX_WEIGHT, documentCount, averageLength, wordScores);
+                }
+                wordScores.forEach((id, score) -> scores.merge(id, score, Double::sum));
+            }
+
+            // Keep only the top results in a min-heap instead of sorting every match
+            PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(Map.Entry.comparingByValue());
+            for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                top.offer(entry);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<Map.Entry<Long, Double>> ranked = new ArrayList<>(top);
+            ranked.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()));
+            List<LessonSummary> results = new ArrayList<>(ranked.size());
+            for (Map.Entry<Long, Double> entry : ranked) {
+                results.add(documents.get(entry.getKey()).summary);
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void score(Map<Long, Integer> termPostings, double weight, int documentCount, double averageLength,
+                       Map<Long, Double> wordScores) {
+        int documentFrequency = termPostings.size();
+        double idf = Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        for (Map.Entry<Long, Integer> posting : termPostings.entrySet()) {
+            int frequency = posting.getValue();
+            int length = documents.get(posting.getKey()).length;
+            double score = weight * idf * frequency * (K1 + 1)
+                    / (frequency + K1 * (1 - B + B * length / averageLength));
+            wordScores.merge(posting.getKey(), score, Math::max);
+        }
+    }
+
+    private void removeLocked(Long lessonId) {
+        Document document = documents.remove(lessonId);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms) {
+            Map<Long, Integer> termPostings = postings.get(term);
+            if (termPostings != null) {
+                termPostings.remove(lessonId);
+                if (termPostings.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= document.length;
+    }
+
+    private static void addPostings(NavigableMap<String, Map<Long, Integer>> target, Long lessonId, Document document) {
+        for (int i = 0; i < document.terms.length; i++) {
+            target.computeIfAbsent(document.terms[i], term -> new HashMap<>(4)).put(lessonId, document.frequencies[i]);
+        }
+    }
+
+    private static Document toDocument(Lesson lesson) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        int remaining = MAX_TOKENS_PER_LESSON;
+        remaining = addTerms(frequencies, lesson.getTitle(), TITLE_WEIGHT, remaining);
+        remaining = addTerms(frequencies, lesson.getDescription(), DESCRIPTION_WEIGHT, remaining);
+        addTerms(frequencies, lesson.getContent(), CONTENT_WEIGHT, remaining);
+
+        String[] terms = new String[frequencies.size()];
+        int[] counts = new int[frequencies.size()];
+        int length = 0;
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            terms[i] = entry.getKey();
+            counts[i] = entry.getValue();
+            length += entry.getValue();
+            i++;
+        }
+
+        User instructor = lesson.getInstructor();
+        LessonSummary summary = new LessonSummary(lesson.getId(), lesson.getTitle(), lesson.getCategory(),
+                lesson.getLevel(), lesson.isPublished(), lesson.getCreatedAt(), lesson.getUpdatedAt(),
+                instructor.getFirstName(), instructor.getLastName(), instructor.getUsername());
+        return new Document(summary, terms, counts, length);
+    }
+
+    private static int addTerms(Map<String, Integer> frequencies, String text, int weight, int remaining) {
+        if (text == null || remaining <= 0) {
+            return remaining;
+        }
+        List<String> tokens = tokenize(text, remaining);
+        for (String token : tokens) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+        return remaining - tokens.size();
+    }
+
+    // Lower-cased, accent-folded words of at least two characters, without stop words
+    static List<String> tokenize(String text, int maxTokens) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT);
+        for (String token : normalized.split("[^\\p{L}\\p{N}]+")) {
+            if (tokens.size() >= maxTokens) {
+                break;
+            }
+            if (token.length() < 2 || STOP_WORDS.contains(token)) {
+                continue;
+            }
+            tokens.add(token.length() > MAX_TERM_LENGTH ? token.substring(0, MAX_TERM_LENGTH) : token);
+        }
+        return tokens;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class Document {
+        private final LessonSummary summary;
+        private final String[] terms;
+        private final int[] frequencies;
+        private final int length;
+
+        private Document(LessonSummary summary, String[] terms, int[] frequencies, int length) {
+            this.summary = summary;
+            this.terms = terms;
+            this.frequencies = frequencies;
+            this.length = length;
+        }
+    }
+}
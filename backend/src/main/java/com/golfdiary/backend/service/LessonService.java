@@ -1,11 +1,14 @@
 package com.golfdiary.backend.service;
 
+import com.golfdiary.backend.dto.LessonSummary;
 import com.golfdiary.backend.entity.Lesson;
 import com.golfdiary.backend.entity.LessonCategory;
 import com.golfdiary.backend.entity.LessonLevel;
 import com.golfdiary.backend.entity.User;
 import com.golfdiary.backend.repository.LessonRepository;
+import com.golfdiary.backend.repository.UserRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -15,73 +18,136 @@ import java.util.Optional;
 public class LessonService {
 
     private final LessonRepository lessonRepository;
+    private final UserRepository userRepository;
+    private final LessonCatalog lessonCatalog;
+    private final LessonSearchIndex lessonSearchIndex;
 
-    public LessonService(LessonRepository lessonRepository) {
+    public LessonService(LessonRepository lessonRepository, UserRepository userRepository,
+                         LessonCatalog lessonCatalog, LessonSearchIndex lessonSearchIndex) {
         this.lessonRepository = lessonRepository;
+        this.userRepository = userRepository;
+        this.lessonCatalog = lessonCatalog;
+        this.lessonSearchIndex = lessonSearchIndex;
     }
 
-    public Lesson createLesson(Lesson lesson) {
+    // The instructor is loaded here because the saved lesson is returned with it
+    @Transactional
+    public Lesson createLesson(Lesson lesson, User instructor) {
+        lesson.setInstructor(userRepository.findById(instructor.getId())
+                .orElseThrow(() -> new RuntimeException("User not found")));
         lesson.setCreatedAt(LocalDateTime.now());
         lesson.setUpdatedAt(LocalDateTime.now());
-        return lessonRepository.save(lesson);
+        Lesson saved = lessonRepository.save(lesson);
+        lessonCatalog.invalidate();
+        lessonSearchIndex.update(saved);
+        return saved;
     }
 
-    public List<Lesson> getAllLessons() {
-        return lessonRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<LessonSummary> getAllLessons() {
+        return lessonRepository.findAllSummaries();
     }
 
-    public List<Lesson> getAllPublishedLessons() {
-        return lessonRepository.findByIsPublishedTrueOrderByCreatedAtDesc();
+    // Published lessons are served from the in-memory catalog
+    public List<LessonSummary> getAllPublishedLessons() {
+        return lessonCatalog.getPublished();
     }
 
-    public List<Lesson> getLessonsByInstructor(User instructor) {
-        return lessonRepository.findByInstructorOrderByCreatedAtDesc(instructor);
+    @Transactional(readOnly = true)
+    public List<LessonSummary> getLessonsByInstructor(User instructor) {
+        return lessonRepository.findSummariesByInstructorId(instructor.getId());
     }
 
-    public List<Lesson> getLessonsByCategory(LessonCategory category) {
-        return lessonRepository.findByCategoryAndIsPublishedTrueOrderByCreatedAtDesc(category);
+    public List<LessonSummary> getLessonsByCategory(LessonCategory category) {
+        return lessonCatalog.getByCategory(category);
     }
 
-    public List<Lesson> getLessonsByLevel(LessonLevel level) {
-        return lessonRepository.findByLevelAndIsPublishedTrueOrderByCreatedAtDesc(level);
+    public List<LessonSummary> getLessonsByLevel(LessonLevel level) {
+        return lessonCatalog.getByLevel(level);
     }
 
-    public List<Lesson> getLessonsByCategoryAndLevel(LessonCategory category, LessonLevel level) {
-        return lessonRepository.findByCategoryAndLevelAndIsPublishedTrueOrderByCreatedAtDesc(category, level);
+    public List<LessonSummary> getLessonsByCategoryAndLevel(LessonCategory category, LessonLevel level) {
+        return lessonCatalog.getByCategoryAndLevel(category, level);
     }
 
+    // Ranked full-text search over published lessons, answered from the in-memory index
+    public List<LessonSummary> searchLessons(String query, int limit) {
+        return lessonSearchIndex.search(query, limit);
+    }
+
+    // Changes whenever any lesson is written
+    public long getCatalogVersion() {
+        return lessonCatalog.getVersion();
+    }
+
+    @Transactional(readOnly = true)
     public Optional<Lesson> getLessonById(Long id) {
-        return lessonRepository.findById(id);
+        return lessonRepository.findWithInstructorById(id);
     }
 
-    public Lesson updateLesson(Lesson lesson) {
-        lesson.setUpdatedAt(LocalDateTime.now());
-        return lessonRepository.save(lesson);
+    /*
+     * The writes below load the lesson, check its owner and change it in one read-write transaction,
+     * so the check and the returned lesson both come from the primary. They return empty (and write
+     * nothing) when the lesson does not exist or belongs to another instructor.
+     */
+
+    @Transactional
+    public Optional<Lesson> updateLesson(Long id, Lesson changes, User instructor) {
+        Optional<Lesson> lesson = findOwned(id, instructor);
+        lesson.ifPresent(existing -> {
+            existing.setTitle(changes.getTitle());
+            existing.setDescription(changes.getDescription());
+            existing.setContent(changes.getContent());
+            existing.setVideoUrl(changes.getVideoUrl());
+            existing.setDocumentUrl(changes.getDocumentUrl());
+            existing.setCategory(changes.getCategory());
+            existing.setLevel(changes.getLevel());
+            existing.setPublished(changes.isPublished());
+            saved(existing);
+        });
+        return lesson;
     }
 
-    public void deleteLesson(Long id) {
-        lessonRepository.deleteById(id);
+    @Transactional
+    public boolean deleteLesson(Long id, User instructor) {
+        Optional<Lesson> lesson = findOwned(id, instructor);
+        lesson.ifPresent(existing -> {
+            lessonRepository.delete(existing);
+            lessonCatalog.invalidate();
+            lessonSearchIndex.remove(id);
+        });
+        return lesson.isPresent();
     }
 
-    public Lesson publishLesson(Long id) {
-        Optional<Lesson> lessonOpt = lessonRepository.findById(id);
-        if (lessonOpt.isPresent()) {
-            Lesson lesson = lessonOpt.get();
-            lesson.setPublished(true);
-            lesson.setUpdatedAt(LocalDateTime.now());
-            return lessonRepository.save(lesson);
-        }
-        throw new RuntimeException("Lesson not found");
+    @Transactional
+    public Optional<Lesson> publishLesson(Long id, User instructor) {
+        Optional<Lesson> lesson = findOwned(id, instructor);
+        lesson.ifPresent(existing -> {
+            existing.setPublished(true);
+            saved(existing);
+        });
+        return lesson;
     }
 
-    public Lesson unpublishLesson(Long id) {
-        Optional<Lesson> lessonOpt = lessonRepository.findById(id);
-        if (lessonOpt.isPresent()) {
-            Lesson lesson = lessonOpt.get();
-            lesson.setPublished(false);
-            lesson.setUpdatedAt(LocalDateTime.now());
-            return lessonRepository.save(lesson);
-        }
-        throw new RuntimeException("Lesson not found");
+    @Transactional
+    public Optional<Lesson> unpublishLesson(Long id, User instructor) {
+        Optional<Lesson> lesson = findOwned(id, instructor);
+        lesson.ifPresent(existing -> {
+            existing.setPublished(false);
+            saved(existing);
+        });
+        return lesson;
+    }
+
+    private Optional<Lesson> findOwned(Long id, User instructor) {
+        return lessonRepository.findWithInstructorById(id)
+                .filter(lesson -> lesson.getInstructor().getId().equals(instructor.getId()));
+    }
+
+    // The managed lesson is written on commit; the catalog and search index follow after it
+    private void saved(Lesson lesson) {
+        lesson.setUpdatedAt(LocalDateTime.now());
+        lessonCatalog.invalidate();
+        lessonSearchIndex.update(lesson);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,128 @@
+package com.golfdiary.backend.service;
+
+import com.golfdiary.backend.dto.AuthResponse;
+import com.golfdiary.backend.entity.User;
+import com.golfdiary.backend.repository.UserRepository;
+import com.golfdiary.backend.security.JwtUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Username/password login. The user is read once on the request thread; the BCrypt check, the
+ * optional rehash and token signing run on a small dedicated pool so a burst of logins cannot
+ * occupy every servlet thread. When the pool's queue is full the login is rejected immediately.
+ */
+@Service
+public class LoginService {
+
+    private static final Logger log = LoggerFactory.getLogger(LoginService.class);
+
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtUtil jwtUtil;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+    private final int retryAfterSeconds;
+
+    // Checked against when the username does not exist so both cases take as long
+    private final String unknownUserHash;
+
+    public LoginService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtUtil jwtUtil,
+                        MeterRegistry meterRegistry,
+                        @Value("${auth.login.threads:0}") int threads,
+                        @Value("${auth.login.queue-capacity:64}") int queueCapacity,
+                        @Value("${auth.login.retry-after-seconds:2}") int retryAfterSeconds) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.jwtUtil = jwtUtil;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.unknownUserHash = passwordEncoder.encode("unknown-user");
+
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "login-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.rejected = Counter.builder("golfdiary.login.rejected")
+                .description("Logins turned away because the password check queue was full")
+                .register(meterRegistry);
+        Gauge.builder("golfdiary.login.queue", executor, e -> e.getQueue().size())
+                .description("Logins waiting for a password check thread")
+                .register(meterRegistry);
+        Gauge.builder("golfdiary.login.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password checks in progress")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Completes with the token, or exceptionally with {@link BadCredentialsException}.
+     *
+     * @throws RejectedExecutionException when the login queue is full
+     */
+    // Not read-only so the lookup goes to the primary: a user who just registered must be able to log in
+    @Transactional
+    public CompletableFuture<AuthResponse> login(String username, String password) {
+        User user = userRepository.findByUsername(username).orElse(null);
+        try {
+            return CompletableFuture.supplyAsync(() -> authenticate(user, password), executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    private AuthResponse authenticate(User user, String password) {
+        if (user == null) {
+            passwordEncoder.matches(password, unknownUserHash);
+            throw new BadCredentialsException("Invalid username or password");
+        }
+        String storedHash = user.getPassword();
+        if (!passwordEncoder.matches(password, storedHash) || !user.isEnabled() || !user.isAccountNonLocked()) {
+            throw new BadCredentialsException("Invalid username or password");
+        }
+        if (passwordEncoder.upgradeEncoding(storedHash)) {
+            rehash(user, password, storedHash);
+        }
+        return new AuthResponse(jwtUtil.generateToken(user), user.getUsername(), user.getRole());
+    }
+
+    // The password is unchanged, so issued tokens stay valid and the token cache is left alone
+    private void rehash(User user, String password, String storedHash) {
+        try {
+            userRepository.updatePasswordIfUnchanged(user.getId(), storedHash, passwordEncoder.encode(password));
+        } catch (RuntimeException e) {
+            log.warn("Could not upgrade password hash for user {}", user.getId(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,50 @@
+package com.golfdiary.backend.service;
+
+import com.golfdiary.backend.entity.GolfRound;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque continuation token for keyset pagination over (round_date DESC, id DESC).
+ * Encodes the sort key of the last row of a page; the next page starts strictly after it.
+ */
+public final class RoundCursor {
+
+    private final LocalDateTime roundDate;
+    private final Long id;
+
+    private RoundCursor(LocalDateTime roundDate, Long id) {
+        this.roundDate = roundDate;
+        this.id = id;
+    }
+
+    public static RoundCursor after(GolfRound round) {
+        return new RoundCursor(round.getRoundDate(), round.getId());
+    }
+
+    public static RoundCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new RoundCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = roundDate + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getRoundDate() {
+        return roundDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
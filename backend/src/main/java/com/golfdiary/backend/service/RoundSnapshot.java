@@ -0,0 +1,115 @@
+package com.golfdiary.backend.service;
+
+import com.golfdiary.backend.entity.GolfRound;
+import org.hibernate.Hibernate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable copy of the fields of a {@link GolfRound} that derived data depends on.
+ * Taken before an update is merged, since the managed entity is overwritten in place.
+ */
+public final class RoundSnapshot {
+
+    private final Long id;
+    private final Long userId;
+    // Null when the round's user is an uninitialized proxy; only needed for rounds being saved
+    private final String username;
+    private final Integer courseId;
+    private final String courseName;
+    private final LocalDateTime roundDate;
+    private final Integer totalScore;
+    private final Integer par;
+    private final Integer birdies;
+    private final Integer pars;
+    private final Integer bogeys;
+    private final Integer doubleBogeys;
+    private final Integer other;
+    private final Double scoreDifferential;
+
+    private RoundSnapshot(GolfRound round, Long id, Long userId, String username) {
+        this.id = id;
+        this.userId = userId;
+        this.username = username;
+        this.courseId = round.getCourseId();
+        this.courseName = round.getCourseName();
+        this.roundDate = round.getRoundDate();
+        this.totalScore = round.getTotalScore();
+        this.par = round.getPar();
+        this.birdies = round.getBirdies();
+        this.pars = round.getPars();
+        this.bogeys = round.getBogeys();
+        this.doubleBogeys = round.getDoubleBogeys();
+        this.other = round.getOther();
+        this.scoreDifferential = round.getScoreDifferential();
+    }
+
+    public static RoundSnapshot of(GolfRound round) {
+        if (round == null) {
+            return null;
+        }
+        return new RoundSnapshot(round, round.getId(), round.getUser() != null ? round.getUser().getId() : null,
+                round.getUser() != null && Hibernate.isInitialized(round.getUser()) ? round.getUser().getUsername() : null);
+    }
+
+    // A round written by the bulk import, which inserts rows without a managed entity or user
+    public static RoundSnapshot imported(GolfRound round, Long id, Long userId) {
+        return new RoundSnapshot(round, id, userId, null);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public Integer getCourseId() {
+        return courseId;
+    }
+
+    public String getCourseName() {
+        return courseName;
+    }
+
+    public LocalDateTime getRoundDate() {
+        return roundDate;
+    }
+
+    public Integer getTotalScore() {
+        return totalScore;
+    }
+
+    public Integer getPar() {
+        return par;
+    }
+
+    public Integer getBirdies() {
+        return birdies;
+    }
+
+    public Integer getPars() {
+        return pars;
+    }
+
+    public Integer getBogeys() {
+        return bogeys;
+    }
+
+    public Integer getDoubleBogeys() {
+        return doubleBogeys;
+    }
+
+    public Integer getOther() {
+        return other;
+    }
+
+    public Double getScoreDifferential() {
+        return scoreDifferential;
+    }
+}
@@ -0,0 +1,186 @@
+package com.golfdiary.backend.service;
+
+import com.golfdiary.backend.dto.RoundStatistics;
+import com.golfdiary.backend.entity.UserRoundStats;
+import com.golfdiary.backend.repository.GolfRoundRepository;
+import com.golfdiary.backend.repository.UserRoundStatsRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Maintains {@link UserRoundStats} by applying the delta of every round write in the same
+ * transaction. Only a delete or edit of the current best/worst score needs a (per-user) query.
+ */
+@Service
+public class RoundStatsService implements GolfRoundChangeListener {
+
+    private final UserRoundStatsRepository statsRepository;
+    private final GolfRoundRepository golfRoundRepository;
+
+    public RoundStatsService(UserRoundStatsRepository statsRepository, GolfRoundRepository golfRoundRepository) {
+        this.statsRepository = statsRepository;
+        this.golfRoundRepository = golfRoundRepository;
+    }
+
+    @Override
+    @Transactional
+    public void onRoundChanged(RoundSnapshot before, RoundSnapshot after) {
+        Long userId = after != null ? after.getUserId() : before.getUserId();
+        UserRoundStats stats = lockStats(userId);
+
+        boolean extremesStale = false;
+        if (before != null) {
+            extremesStale = apply(stats, before, -1);
+        }
+        if (after != null) {
+            apply(stats, after, 1);
+        }
+        if (extremesStale) {
+            // The removed score was the best or worst one; ask the database for the new range
+            List<Object[]> range = golfRoundRepository.findScoreRange(userId);
+            Object[] row = range.isEmpty() ? new Object[2] : range.get(0);
+            stats.setMinScore(toInteger(row[0]));
+            stats.setMaxScore(toInteger(row[1]));
+        }
+
+        stats.setRevision(stats.getRevision() + 1);
+        stats.setUpdatedAt(LocalDateTime.now());
+        statsRepository.save(stats);
+    }
+
+    @Override
+    @Transactional
+    public void onRoundsImported(Long userId) {
+        rebuild(userId);
+    }
+
+    // Bumped on every round write for the user; used as the validator for conditional GETs
+    @Transactional(readOnly = true)
+    public long getRevision(Long userId) {
+        return statsRepository.findRevision(userId).orElse(0L);
+    }
+
+    @Transactional(readOnly = true)
+    public RoundStatistics getCareerStatistics(Long userId) {
+        return statsRepository.findById(userId)
+                .map(RoundStatsService::toStatistics)
+                .orElseGet(() -> toStatistics(new UserRoundStats(userId)));
+    }
+
+    // Recomputes every user's summary from golf_rounds to repair drift
+    @Transactional
+    public int rebuildAll() {
+        return rebuild(null);
+    }
+
+    @Transactional
+    public int rebuild(Long userId) {
+        Set<Long> rebuilt = new HashSet<>();
+        for (Object[] row : golfRoundRepository.aggregateCareerTotals(userId)) {
+            Long rowUserId = ((Number) row[0]).longValue();
+            UserRoundStats stats = lockStats(rowUserId);
+            stats.setRoundCount(toLong(row[1]));
+            stats.setScoredRounds(toLong(row[2]));
+            stats.setScoreSum(toLong(row[3]));
+            stats.setScoreSquaresSum(toLong(row[4]));
+            stats.setParRounds(toLong(row[5]));
+            stats.setOverParSum(toLong(row[6]));
+            stats.setMinScore(toInteger(row[7]));
+            stats.setMaxScore(toInteger(row[8]));
+            stats.setBirdies(toLong(row[9]));
+            stats.setPars(toLong(row[10]));
+            stats.setBogeys(toLong(row[11]));
+            stats.setDoubleBogeys(toLong(row[12]));
+            stats.setOther(toLong(row[13]));
+            stats.setRevision(stats.getRevision() + 1);
+            stats.setUpdatedAt(LocalDateTime.now());
+            statsRepository.save(stats);
+            rebuilt.add(rowUserId);
+        }
+
+        // Summaries left over for users who no longer have any rounds
+        List<UserRoundStats> existing = userId == null
+                ? statsRepository.findAll()
+                : statsRepository.findById(userId).map(List::of).orElse(List.of());
+        for (UserRoundStats stats : existing) {
+            if (!rebuilt.contains(stats.getUserId())) {
+                long revision = stats.getRevision();
+                UserRoundStats empty = new UserRoundStats(stats.getUserId());
+                empty.setRevision(revision + 1);
+                statsRepository.save(empty);
+            }
+        }
+        return rebuilt.size();
+    }
+
+    // FOR UPDATE locks nothing when the row is missing, so a user's first writes create it first
+    private UserRoundStats lockStats(Long userId) {
+        Optional<UserRoundStats> stats = statsRepository.findForUpdate(userId);
+        if (stats.isPresent()) {
+            return stats.get();
+        }
+        statsRepository.insertIfAbsent(userId, LocalDateTime.now());
+        return statsRepository.findForUpdate(userId).orElseThrow();
+    }
+
+    // Adds (sign 1) or removes (sign -1) the round; returns true when the removed round held the min or max score
+    private static boolean apply(UserRoundStats stats, RoundSnapshot round, int sign) {
+        boolean extremesStale = false;
+        stats.setRoundCount(stats.getRoundCount() + sign);
+
+        Integer score = round.getTotalScore();
+        if (score != null) {
+            stats.setScoredRounds(stats.getScoredRounds() + sign);
+            stats.setScoreSum(stats.getScoreSum() + (long) sign * score);
+            stats.setScoreSquaresSum(stats.getScoreSquaresSum() + (long) sign * score * score);
+            if (sign > 0) {
+                stats.setMinScore(stats.getMinScore() == null ? score : Math.min(stats.getMinScore(), score));
+                stats.setMaxScore(stats.getMaxScore() == null ? score : Math.max(stats.getMaxScore(), score));
+            } else if (score.equals(stats.getMinScore()) || score.equals(stats.getMaxScore())) {
+                extremesStale = true;
+            }
+            if (round.getPar() != null) {
+                stats.setParRounds(stats.getParRounds() + sign);
+                stats.setOverParSum(stats.getOverParSum() + (long) sign * (score - round.getPar()));
+            }
+        }
+
+        stats.setBirdies(stats.getBirdies() + (long) sign * valueOf(round.getBirdies()));
+        stats.setPars(stats.getPars() + (long) sign * valueOf(round.getPars()));
+        stats.setBogeys(stats.getBogeys() + (long) sign * valueOf(round.getBogeys()));
+        stats.setDoubleBogeys(stats.getDoubleBogeys() + (long) sign * valueOf(round.getDoubleBogeys()));
+        stats.setOther(stats.getOther() + (long) sign * valueOf(round.getOther()));
+        return extremesStale;
+    }
+
+    private static RoundStatistics toStatistics(UserRoundStats stats) {
+        Double average = stats.getScoredRounds() > 0 ? (double) stats.getScoreSum() / stats.getScoredRounds() : null;
+        Double overPar = stats.getParRounds() > 0 ? (double) stats.getOverParSum() / stats.getParRounds() : null;
+        RoundStatistics statistics = new RoundStatistics(stats.getRoundCount(), average, overPar,
+                stats.getBirdies(), stats.getPars(), stats.getBogeys(), stats.getDoubleBogeys(), stats.getOther(),
+                stats.getMinScore(), stats.getMaxScore());
+        if (average != null) {
+            double variance = (double) stats.getScoreSquaresSum() / stats.getScoredRounds() - average * average;
+            statistics.setScoreStandardDeviation(Math.sqrt(Math.max(variance, 0)));
+        }
+        return statistics;
+    }
+
+    private static int valueOf(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0;
+    }
+
+    private static Integer toInteger(Object value) {
+        return value != null ? ((Number) value).intValue() : null;
+    }
+}
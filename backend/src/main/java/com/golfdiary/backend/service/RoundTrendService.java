@@ -0,0 +1,167 @@
+package com.golfdiary.backend.service;
+
+import com.golfdiary.backend.dto.RoundTrend;
+import com.golfdiary.backend.dto.TrendPoint;
+import com.golfdiary.backend.entity.Course;
+import com.golfdiary.backend.repository.GolfRoundRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Score trends over a user's most recent rounds. Rolling averages read only the newest
+ * {@code limit + window - 1} rounds and keep running sums over a ring buffer; bucketed averages read
+ * only the rounds inside the requested weeks or months. Both queries are bounded index scans, so the
+ * cost does not depend on how long the user's history is.
+ */
+@Service
+public class RoundTrendService {
+
+    public static final int MAX_WINDOW = 50;
+    public static final int MAX_POINTS = 200;
+
+    public enum Bucket {
+        WEEK, MONTH;
+
+        public static Bucket fromParam(String value) {
+            for (Bucket bucket : values()) {
+                if (bucket.name().equalsIgnoreCase(value)) {
+                    return bucket;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported trend bucket: " + value);
+        }
+
+        public LocalDate startOf(LocalDate date) {
+            return this == WEEK ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : date.withDayOfMonth(1);
+        }
+
+        LocalDate plus(LocalDate start, long periods) {
+            return this == WEEK ? start.plusWeeks(periods) : start.plusMonths(periods);
+        }
+    }
+
+    private final GolfRoundRepository golfRoundRepository;
+    private final CourseService courseService;
+
+    public RoundTrendService(GolfRoundRepository golfRoundRepository, CourseService courseService) {
+        this.golfRoundRepository = golfRoundRepository;
+        this.courseService = courseService;
+    }
+
+    // Moving average over the last `window` scored rounds, for each of the newest `limit` rounds
+    @Transactional(readOnly = true)
+    public RoundTrend getRollingTrend(Long userId, String courseName, int window, int limit) {
+        if (window < 1 || window > MAX_WINDOW) {
+            throw new IllegalArgumentException("window must be between 1 and " + MAX_WINDOW);
+        }
+        if (limit < 1 || limit > MAX_POINTS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_POINTS);
+        }
+        // The oldest window - 1 rows only fill the window for the first returned point
+        Limit rows = Limit.of(limit + window - 1);
+        Optional<Course> course = courseName != null ? courseService.find(courseName) : Optional.empty();
+        List<Object[]> newestFirst;
+        if (courseName == null) {
+            newestFirst = golfRoundRepository.findRecentScores(userId, rows);
+        } else if (course.isPresent()) {
+            newestFirst = golfRoundRepository.findRecentCourseScores(userId, course.get().getId(), rows);
+        } else {
+            newestFirst = List.of();
+        }
+
+        int[] scores = new int[window];
+        int[] toPar = new int[window];
+        boolean[] hasPar = new boolean[window];
+        long scoreSum = 0;
+        long toParSum = 0;
+        int parCount = 0;
+        int firstPoint = Math.max(0, newestFirst.size() - limit);
+        List<TrendPoint> points = new ArrayList<>(Math.min(limit, newestFirst.size()));
+
+        for (int n = 0, i = newestFirst.size() - 1; i >= 0; n++, i--) {
+            Object[] row = newestFirst.get(i);
+            int slot = n % window;
+            if (n >= window) {
+                // Evict the round falling out of the window
+                scoreSum -= scores[slot];
+                if (hasPar[slot]) {
+                    toParSum -= toPar[slot];
+                    parCount--;
+                }
+            }
+            int score = ((Number) row[2]).intValue();
+            Integer par = row[3] != null ? ((Number) row[3]).intValue() : null;
+            scores[slot] = score;
+            hasPar[slot] = par != null;
+            toPar[slot] = par != null ? score - par : 0;
+            scoreSum += score;
+            if (par != null) {
+                toParSum += score - par;
+                parCount++;
+            }
+
+            if (n >= firstPoint) {
+                int inWindow = Math.min(n + 1, window);
+                points.add(new TrendPoint((LocalDateTime) row[1], (Long) row[0], score,
+                        par != null ? score - par : null, inWindow,
+                        round((double) scoreSum / inWindow),
+                        parCount > 0 ? round((double) toParSum / parCount) : null));
+            }
+        }
+        return new RoundTrend(window, null, courseName, points);
+    }
+
+    // Average of each of the last `limit` weeks or months up to the one holding `today`, oldest first;
+    // empty buckets have no averages
+    @Transactional(readOnly = true)
+    public RoundTrend getBucketTrend(Long userId, String courseName, Bucket bucket, LocalDate today, int limit) {
+        if (limit < 1 || limit > MAX_POINTS) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_POINTS);
+        }
+        LocalDate current = bucket.startOf(today);
+        LocalDate from = bucket.plus(current, -(limit - 1));
+        Optional<Course> course = courseName != null ? courseService.find(courseName) : Optional.empty();
+        List<Object[]> rows = courseName != null && course.isEmpty()
+                ? List.of()
+                : golfRoundRepository.findScoresBetween(userId, course.map(Course::getId).orElse(null),
+                        from.atStartOfDay(), bucket.plus(current, 1).atStartOfDay());
+
+        List<TrendPoint> points = new ArrayList<>(limit);
+        int next = 0;
+        for (LocalDate start = from; !start.isAfter(current); start = bucket.plus(start, 1)) {
+            LocalDateTime end = bucket.plus(start, 1).atStartOfDay();
+            long scoreSum = 0;
+            long toParSum = 0;
+            int count = 0;
+            int parCount = 0;
+            // Rows are ordered by date, so each bucket consumes the next run of them
+            while (next < rows.size() && ((LocalDateTime) rows.get(next)[0]).isBefore(end)) {
+                Object[] row = rows.get(next++);
+                int score = ((Number) row[1]).intValue();
+                scoreSum += score;
+                count++;
+                if (row[2] != null) {
+                    toParSum += score - ((Number) row[2]).intValue();
+                    parCount++;
+                }
+            }
+            points.add(new TrendPoint(start.atStartOfDay(), null, null, null, count,
+                    count > 0 ? round((double) scoreSum / count) : null,
+                    parCount > 0 ? round((double) toParSum / parCount) : null));
+        }
+        return new RoundTrend(null, bucket.name().toLowerCase(), courseName, points);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,235 @@
+package com.golfdiary.backend.service;
+
+import com.golfdiary.backend.entity.Shot;
+import com.golfdiary.backend.entity.ShotLocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.CRC32;
+
+/**
+ * Local append-only log of accepted shots, split into numbered segment files. Each request's shots are
+ * one frame ({@code length, crc32, payload}); an append writes the frames of a group of requests and
+ * forces them to disk once, before any of those requests is acknowledged.
+ * A segment is sealed when the buffered shots are handed to the database writer and deleted once they
+ * are committed, so the segments on disk at startup hold exactly the shots that may not have been stored.
+ * Not thread-safe; callers serialize access.
+ */
+class ShotLog implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ShotLog.class);
+
+    private static final String PREFIX = "shots-";
+    private static final String SUFFIX = ".log";
+    private static final int FRAME_HEADER = 8;
+    // Larger frames can only come from a corrupt length field
+    private static final int MAX_FRAME = 16 * 1024 * 1024;
+    private static final boolean WINDOWS = System.getProperty("os.name", "").toLowerCase(Locale.ROOT).startsWith("windows");
+
+    private final Path directory;
+    private final boolean fsync;
+    private long nextSequence;
+    private FileChannel channel;
+    // Segments written since the last seal
+    private final List<Path> unsealed = new ArrayList<>();
+
+    ShotLog(Path directory, boolean fsync) throws IOException {
+        this.directory = directory;
+        this.fsync = fsync;
+        if (!Files.isDirectory(directory)) {
+            Files.createDirectories(directory);
+            syncDirectory(directory.toAbsolutePath().getParent());
+        }
+        List<Path> existing = segments();
+        this.nextSequence = existing.isEmpty() ? 1 : sequenceOf(existing.get(existing.size() - 1)) + 1;
+    }
+
+    // Segments on disk, oldest first
+    List<Path> segments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, PREFIX + "*" + SUFFIX)) {
+            stream.forEach(segments::add);
+        }
+        segments.sort(null);
+        return segments;
+    }
+
+    // Writes one frame per list, then forces them all with a single fsync
+    void append(List<List<Shot>> frames) throws IOException {
+        if (channel == null) {
+            Path segment = directory.resolve(String.format("%s%020d%s", PREFIX, nextSequence++, SUFFIX));
+            channel = FileChannel.open(segment, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            unsealed.add(segment);
+            // Forcing the file does not persist its directory entry; without this a power loss can
+            // drop a whole segment of acknowledged frames
+            try {
+                syncDirectory(directory);
+            } catch (IOException e) {
+                close();
+                throw e;
+            }
+        }
+        List<byte[]> payloads = new ArrayList<>(frames.size());
+        int size = 0;
+        for (List<Shot> shots : frames) {
+            byte[] payload = encode(shots);
+            payloads.add(payload);
+            size += FRAME_HEADER + payload.length;
+        }
+        ByteBuffer data = ByteBuffer.allocate(size);
+        for (byte[] payload : payloads) {
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            data.putInt(payload.length).putInt((int) crc.getValue()).put(payload);
+        }
+        data.flip();
+        try {
+            while (data.hasRemaining()) {
+                channel.write(data);
+            }
+            if (fsync) {
+                channel.force(false);
+            }
+        } catch (IOException e) {
+            // Continue in a new segment so later frames are not hidden behind a torn one on replay
+            close();
+            throw e;
+        }
+    }
+
+    // Closes the current segment and returns every segment written since the last seal
+    List<Path> seal() {
+        try {
+            close();
+        } catch (IOException e) {
+            // Every frame was already forced when it was appended
+            log.warn("Could not close shot log segment", e);
+        }
+        List<Path> sealed = new ArrayList<>(unsealed);
+        unsealed.clear();
+        return sealed;
+    }
+
+    // Not synced: a deleted segment that reappears after a crash is replayed, and its shots are skipped
+    void delete(List<Path> segments) throws IOException {
+        for (Path segment : segments) {
+            Files.deleteIfExists(segment);
+        }
+    }
+
+    // Reads every complete frame; a torn or corrupt frame ends the segment
+    static List<Shot> read(Path segment) throws IOException {
+        List<Shot> shots = new ArrayList<>();
+        ByteBuffer data = ByteBuffer.wrap(Files.readAllBytes(segment));
+        while (data.remaining() >= FRAME_HEADER) {
+            int length = data.getInt();
+            int checksum = data.getInt();
+            if (length < 0 || length > MAX_FRAME || length > data.remaining()) {
+                log.warn("Ignoring torn frame at the end of {}", segment.getFileName());
+                break;
+            }
+            byte[] payload = new byte[length];
+            data.get(payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != checksum) {
+                log.warn("Ignoring corrupt frame in {}", segment.getFileName());
+                break;
+            }
+            shots.addAll(decode(payload));
+        }
+        return shots;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            FileChannel closing = channel;
+            channel = null;
+            closing.close();
+        }
+    }
+
+    private void syncDirectory(Path dir) throws IOException {
+        if (!fsync || dir == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Windows cannot open a directory, and its directory entries need no separate flush
+            if (!WINDOWS) {
+                throw e;
+            }
+        }
+    }
+
+    private static long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    private static byte[] encode(List<Shot> shots) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * shots.size());
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(shots.size());
+        for (Shot shot : shots) {
+            out.writeUTF(shot.getEventId());
+            out.writeLong(shot.getUserId());
+            out.writeLong(shot.getRoundId());
+            out.writeByte(shot.getHole());
+            out.writeByte(shot.getShotNumber());
+            out.writeUTF(shot.getClub() != null ? shot.getClub() : "");
+            out.writeInt(shot.getDistance() != null ? shot.getDistance() : -1);
+            out.writeUTF(shot.getLie() != null ? shot.getLie().name() : "");
+            out.writeUTF(shot.getResult() != null ? shot.getResult().name() : "");
+            out.writeUTF(shot.getRecordedAt() != null ? shot.getRecordedAt().toString() : "");
+            out.writeUTF(shot.getCreatedAt().toString());
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    private static List<Shot> decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        int count = in.readInt();
+        List<Shot> shots = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Shot shot = new Shot();
+            shot.setEventId(in.readUTF());
+            shot.setUserId(in.readLong());
+            shot.setRoundId(in.readLong());
+            shot.setHole((int) in.readByte());
+            shot.setShotNumber((int) in.readByte());
+            String club = in.readUTF();
+            shot.setClub(club.isEmpty() ? null : club);
+            int distance = in.readInt();
+            shot.setDistance(distance >= 0 ? distance : null);
+            String lie = in.readUTF();
+            shot.setLie(lie.isEmpty() ? null : ShotLocation.valueOf(lie));
+            String result = in.readUTF();
+            shot.setResult(result.isEmpty() ? null : ShotLocation.valueOf(result));
+            String recordedAt = in.readUTF();
+            shot.setRecordedAt(recordedAt.isEmpty() ? null : LocalDateTime.parse(recordedAt));
+            shot.setCreatedAt(LocalDateTime.parse(in.readUTF()));
+            shots.add(shot);
+        }
+        return shots;
+    }
+}
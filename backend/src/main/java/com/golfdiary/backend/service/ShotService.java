@@ -0,0 +1,534 @@
+package com.golfdiary.backend.service;
+
+import com.golfdiary.backend.dto.ShotRequest;
+import com.golfdiary.backend.entity.Scorecard;
+import com.golfdiary.backend.entity.Shot;
+import com.golfdiary.backend.repository.ShotRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind ingestion of shot events. Accepted shots are appended to the local {@link ShotLog}
+ * and buffered in memory. Requests do not write the log themselves: they queue their shots and wait
+ * while a single log writer appends everything queued so far with one fsync (group commit), so
+ * concurrent requests share the disk flush instead of taking turns. A single flusher thread writes
+ * the buffer to the database in JDBC batches once it holds {@code batch-size} shots or every
+ * {@code interval-ms}. The buffer is bounded: when it cannot take a request's shots the request is
+ * rejected instead of queueing more work. Shots left in the log by a crash are replayed at startup;
+ * inserts ignore event ids that are already stored, so replays and client retries are harmless. A batch the database keeps refusing is written shot by shot
+ * after {@code max-attempts}, and the shots it still refuses are moved to a dead-letter log.
+ */
+@Service
+public class ShotService implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ShotService.class);
+
+    private static final String INSERT_SQL = "INSERT INTO shots (event_id, user_id, round_id, hole, shot_number, "
+            + "club, distance, lie, result, recorded_at, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            // A shot sent again by a client retry, or replayed from the log, is already stored
+            + "ON DUPLICATE KEY UPDATE event_id = event_id";
+    private static final int MAX_SHOT_NUMBER = 20;
+    private static final int MAX_CLUB_LENGTH = 16;
+    private static final int MAX_DISTANCE = 1000;
+    private static final int MAX_CLIENT_ID_LENGTH = 64;
+
+    private final ShotRepository shotRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShotLog shotLog;
+    // Shots the database refused, in the shot log format; written by the flusher only
+    private final ShotLog deadLetterLog;
+    // A batch the last flush could neither store nor dead-letter, and its sealed segments (flusher only)
+    private final List<Shot> unstored = new ArrayList<>();
+    private final List<Path> unstoredSegments = new ArrayList<>();
+    private final List<Path> segmentsToReplay;
+
+    // Requests waiting for the log writer
+    private final BlockingQueue<PendingAppend> appends = new LinkedBlockingQueue<>();
+    // Held by the log writer while it appends and by the flusher while it seals the log
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition batchReady = lock.newCondition();
+    // Guarded by lock; every shot in it is already in the log
+    private final List<Shot> buffer = new ArrayList<>();
+    // One permit per shot that is buffered or being written
+    private final Semaphore capacity;
+
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final int maxAttempts;
+    private final int maxShotsPerRequest;
+    private final int retryAfterSeconds;
+
+    private final Counter rejected;
+    private final Counter flushed;
+    private final Counter deadLettered;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private volatile boolean stopping;
+    private Thread logWriter;
+    private Thread flusher;
+
+    public ShotService(ShotRepository shotRepository, JdbcTemplate jdbcTemplate,
+                       PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                       @Value("${shots.log.directory:data/shot-log}") String logDirectory,
+                       @Value("${shots.log.fsync:true}") boolean fsync,
+                       @Value("${shots.buffer.capacity:10000}") int bufferCapacity,
+                       @Value("${shots.flush.batch-size:500}") int batchSize,
+                       @Value("${shots.flush.interval-ms:1000}") long flushIntervalMillis,
+                       @Value("${shots.flush.max-attempts:5}") int maxAttempts,
+                       @Value("${shots.max-per-request:500}") int maxShotsPerRequest,
+                       @Value("${shots.retry-after-seconds:1}") int retryAfterSeconds) throws IOException {
+        this.shotRepository = shotRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        // Read-write, so flushes and the replay's duplicate check always use the primary
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shotLog = new ShotLog(Path.of(logDirectory), fsync);
+        this.deadLetterLog = new ShotLog(Path.of(logDirectory).resolve("dead-letter"), fsync);
+        // Taken before any append so replay never sees segments written by this run
+        this.segmentsToReplay = shotLog.segments();
+        this.capacity = new Semaphore(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.maxShotsPerRequest = Math.min(maxShotsPerRequest, bufferCapacity);
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        this.rejected = Counter.builder("golfdiary.shots.rejected")
+                .description("Shots turned away because the ingestion buffer was full")
+                .register(meterRegistry);
+        this.flushed = Counter.builder("golfdiary.shots.flushed")
+                .description("Shots written to the database")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("golfdiary.shots.dead.lettered")
+                .description("Shots the database refused, moved to the dead-letter log")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("golfdiary.shots.flush")
+                .description("Batch inserts of buffered shots")
+                .register(meterRegistry);
+        Gauge.builder("golfdiary.shots.buffered", capacity, s -> bufferCapacity - s.availablePermits())
+                .description("Accepted shots not yet written to the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Validates, logs and buffers the shots of one request and returns how many were accepted.
+     * Throws {@link IllegalArgumentException} for invalid input and {@link RejectedExecutionException}
+     * when the buffer is full. Once this returns the shots survive a crash. A shot's event id comes from
+     * its client-supplied {@code eventId}, else from {@code batchKey} and its position in the request,
+     * so a retried request stores each shot once; without either a retry stores the shots again.
+     */
+    public int accept(Long userId, Long roundId, String batchKey, List<ShotRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("No shots in request");
+        }
+        if (requests.size() > maxShotsPerRequest) {
+            throw new IllegalArgumentException("At most " + maxShotsPerRequest + " shots per request");
+        }
+        if (batchKey != null && (batchKey.isBlank() || batchKey.length() > MAX_CLIENT_ID_LENGTH)) {
+            throw new IllegalArgumentException("Idempotency key must be 1 to " + MAX_CLIENT_ID_LENGTH + " characters");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Shot> shots = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            shots.add(toShot(i, userId, roundId, batchKey, requests.get(i), now));
+        }
+
+        if (!capacity.tryAcquire(shots.size())) {
+            rejected.increment(shots.size());
+            throw new RejectedExecutionException("Shot buffer is full");
+        }
+        if (!running) {
+            capacity.release(shots.size());
+            throw new RejectedExecutionException("Shot ingestion is not running");
+        }
+        PendingAppend pending = new PendingAppend(shots);
+        appends.add(pending);
+        try {
+            pending.written.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw new UncheckedIOException("Could not write shot log", io);
+            }
+            throw e;
+        }
+        return shots.size();
+    }
+
+    // Shots still in the buffer are not returned until the next flush
+    @Transactional(readOnly = true)
+    public List<Shot> getShotsByRound(Long roundId) {
+        return shotRepository.findByRoundIdOrderByHoleAscShotNumberAscIdAsc(roundId);
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    // Started before the web server so the log is replayed before new shots arrive
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    @Override
+    public void start() {
+        int replayed = 0;
+        try {
+            for (Path segment : segmentsToReplay) {
+                List<Shot> shots = ShotLog.read(segment);
+                if (!shots.isEmpty() && !store(shots, true)) {
+                    throw new IllegalStateException("Could not replay shot log segment " + segment);
+                }
+                shotLog.delete(List.of(segment));
+                replayed += shots.size();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not replay shot log", e);
+        }
+        if (!segmentsToReplay.isEmpty()) {
+            log.info("Replayed {} shots from {} shot log segments", replayed, segmentsToReplay.size());
+        }
+
+        running = true;
+        logWriter = new Thread(this::runLogWriter, "shot-log-writer");
+        logWriter.setDaemon(true);
+        logWriter.start();
+        flusher = new Thread(this::runFlusher, "shot-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        stopping = true;
+        lock.lock();
+        try {
+            batchReady.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        // The log writer finishes what is queued before it exits
+        join(logWriter);
+        PendingAppend late;
+        while ((late = appends.poll()) != null) {
+            capacity.release(late.shots.size());
+            late.written.completeExceptionally(new RejectedExecutionException("Shot ingestion is not running"));
+        }
+        join(flusher);
+        // Whatever this cannot write stays in the log for the next start
+        flush(false);
+        try {
+            shotLog.close();
+            deadLetterLog.close();
+        } catch (IOException e) {
+            log.warn("Could not close shot log", e);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private static void join(Thread thread) {
+        if (thread != null) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void runLogWriter() {
+        List<PendingAppend> group = new ArrayList<>();
+        while (true) {
+            PendingAppend first;
+            try {
+                first = appends.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                if (!running) {
+                    return;
+                }
+                continue;
+            }
+            // Everything that queued up while the previous group was being forced goes out together
+            group.add(first);
+            appends.drainTo(group);
+            write(group);
+            group.clear();
+        }
+    }
+
+    private void write(List<PendingAppend> group) {
+        List<List<Shot>> frames = new ArrayList<>(group.size());
+        for (PendingAppend pending : group) {
+            frames.add(pending.shots);
+        }
+        lock.lock();
+        try {
+            shotLog.append(frames);
+            for (PendingAppend pending : group) {
+                buffer.addAll(pending.shots);
+            }
+            if (buffer.size() >= batchSize) {
+                batchReady.signal();
+            }
+        } catch (IOException e) {
+            for (PendingAppend pending : group) {
+                capacity.release(pending.shots.size());
+                pending.written.completeExceptionally(e);
+            }
+            return;
+        } finally {
+            lock.unlock();
+        }
+        for (PendingAppend pending : group) {
+            pending.written.complete(null);
+        }
+    }
+
+    private void runFlusher() {
+        while (running) {
+            lock.lock();
+            try {
+                if (buffer.size() < batchSize) {
+                    batchReady.await(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lock.unlock();
+            }
+            if (running) {
+                flush(true);
+            }
+        }
+    }
+
+    // Writes everything buffered so far; the sealed log segments are deleted once it is committed
+    private void flush(boolean retry) {
+        List<Shot> batch = new ArrayList<>(unstored);
+        List<Path> sealed = new ArrayList<>(unstoredSegments);
+        lock.lock();
+        try {
+            if (!buffer.isEmpty()) {
+                batch.addAll(buffer);
+                buffer.clear();
+                sealed.addAll(shotLog.seal());
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        if (!store(batch, retry)) {
+            // Still holding their buffer capacity; the next flush tries them again
+            unstored.clear();
+            unstored.addAll(batch);
+            unstoredSegments.clear();
+            unstoredSegments.addAll(sealed);
+            return;
+        }
+        unstored.clear();
+        unstoredSegments.clear();
+        capacity.release(batch.size());
+        try {
+            shotLog.delete(sealed);
+        } catch (IOException e) {
+            // Replaying them later is harmless: stored shots are skipped
+            log.warn("Could not delete flushed shot log segments {}", sealed, e);
+        }
+    }
+
+    /**
+     * Writes the batch, retrying every interval while {@code retry} holds. Failures caused by the data
+     * rather than an unreachable database count as attempts; after {@code max-attempts} of them the
+     * batch is written shot by shot and the shots the database still refuses are dead-lettered.
+     * Returns false when the batch was neither stored nor dead-lettered, so it stays in the shot log.
+     */
+    private boolean store(List<Shot> batch, boolean retry) {
+        int failures = 0;
+        while (true) {
+            try {
+                if (failures < maxAttempts) {
+                    flushed.increment(flushTimer.record(() -> insert(batch)));
+                } else {
+                    storeEach(batch);
+                }
+                return true;
+            } catch (DataAccessException e) {
+                if (!isUnavailable(e)) {
+                    failures++;
+                }
+                if (!retry || stopping) {
+                    log.warn("Could not write {} buffered shots; they stay in the shot log", batch.size(), e);
+                    return false;
+                }
+                log.warn("Could not write {} buffered shots (attempt {} of {}), retrying", batch.size(),
+                        failures, maxAttempts, e);
+            } catch (IOException e) {
+                log.error("Could not write the dead-letter log; {} shots stay in the shot log", batch.size(), e);
+                return false;
+            }
+            try {
+                Thread.sleep(flushIntervalMillis);
+            } catch (InterruptedException interrupted) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    // Finds the shots the database refuses; an unreachable database aborts this and the batch is retried
+    private void storeEach(List<Shot> batch) throws IOException {
+        List<Shot> refused = new ArrayList<>();
+        for (Shot shot : batch) {
+            try {
+                flushed.increment(insert(List.of(shot)));
+            } catch (DataAccessException e) {
+                if (isUnavailable(e)) {
+                    throw e;
+                }
+                refused.add(shot);
+            }
+        }
+        if (!refused.isEmpty()) {
+            deadLetterLog.append(List.of(refused));
+            deadLetterLog.seal();
+            deadLettered.increment(refused.size());
+            log.error("Moved {} shots the database refused to the dead-letter log", refused.size());
+        }
+    }
+
+    // Connection failures and timeouts say nothing about the batch, so they are retried without limit
+    private static boolean isUnavailable(DataAccessException e) {
+        return e instanceof DataAccessResourceFailureException || e instanceof TransientDataAccessException;
+    }
+
+    // Returns the number of shots inserted
+    private int insert(List<Shot> rows) {
+        Integer inserted = transactionTemplate.execute(status -> {
+            // Sent as multi-row INSERTs by the MySQL driver (rewriteBatchedStatements)
+            jdbcTemplate.batchUpdate(INSERT_SQL, rows, batchSize, (ps, shot) -> {
+                ps.setString(1, shot.getEventId());
+                ps.setLong(2, shot.getUserId());
+                ps.setLong(3, shot.getRoundId());
+                ps.setInt(4, shot.getHole());
+                ps.setInt(5, shot.getShotNumber());
+                ps.setObject(6, shot.getClub(), Types.VARCHAR);
+                ps.setObject(7, shot.getDistance(), Types.INTEGER);
+                ps.setObject(8, shot.getLie() != null ? shot.getLie().name() : null, Types.VARCHAR);
+                ps.setObject(9, shot.getResult() != null ? shot.getResult().name() : null, Types.VARCHAR);
+                ps.setObject(10, shot.getRecordedAt() != null ? Timestamp.valueOf(shot.getRecordedAt()) : null,
+                        Types.TIMESTAMP);
+                ps.setTimestamp(11, Timestamp.valueOf(shot.getCreatedAt()));
+            });
+            return rows.size();
+        });
+        return inserted != null ? inserted : 0;
+    }
+
+    private static Shot toShot(int index, Long userId, Long roundId, String batchKey, ShotRequest request,
+                               LocalDateTime now) {
+        String position = "Shot " + (index + 1) + ": ";
+        if (request == null) {
+            throw new IllegalArgumentException(position + "missing");
+        }
+        if (request.getHole() == null || request.getHole() < 1 || request.getHole() > Scorecard.MAX_HOLES) {
+            throw new IllegalArgumentException(position + "hole must be between 1 and " + Scorecard.MAX_HOLES);
+        }
+        if (request.getShotNumber() == null || request.getShotNumber() < 1 || request.getShotNumber() > MAX_SHOT_NUMBER) {
+            throw new IllegalArgumentException(position + "shotNumber must be between 1 and " + MAX_SHOT_NUMBER);
+        }
+        if (request.getClub() != null && request.getClub().length() > MAX_CLUB_LENGTH) {
+            throw new IllegalArgumentException(position + "club is longer than " + MAX_CLUB_LENGTH + " characters");
+        }
+        if (request.getDistance() != null && (request.getDistance() < 0 || request.getDistance() > MAX_DISTANCE)) {
+            throw new IllegalArgumentException(position + "distance must be between 0 and " + MAX_DISTANCE);
+        }
+        if (request.getEventId() != null
+                && (request.getEventId().isBlank() || request.getEventId().length() > MAX_CLIENT_ID_LENGTH)) {
+            throw new IllegalArgumentException(position + "eventId must be 1 to " + MAX_CLIENT_ID_LENGTH + " characters");
+        }
+        Shot shot = new Shot();
+        shot.setEventId(eventId(userId, batchKey, index, request.getEventId()));
+        shot.setUserId(userId);
+        shot.setRoundId(roundId);
+        shot.setHole(request.getHole());
+        shot.setShotNumber(request.getShotNumber());
+        shot.setClub(request.getClub() == null || request.getClub().isBlank() ? null : request.getClub().trim());
+        shot.setDistance(request.getDistance());
+        shot.setLie(request.getLie());
+        shot.setResult(request.getResult());
+        shot.setRecordedAt(request.getRecordedAt());
+        shot.setCreatedAt(now);
+        return shot;
+    }
+
+    // Scoped to the user, so clients cannot collide with each other's ids
+    private static String eventId(Long userId, String batchKey, int index, String clientEventId) {
+        String name;
+        if (clientEventId != null) {
+            name = userId + ":event:" + clientEventId;
+        } else if (batchKey != null) {
+            name = userId + ":batch:" + batchKey + ":" + index;
+        } else {
+            return UUID.randomUUID().toString();
+        }
+        return UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    // One request's shots, completed once they are in the log and the buffer
+    private static final class PendingAppend {
+        private final List<Shot> shots;
+        private final CompletableFuture<Void> written = new CompletableFuture<>();
+
+        private PendingAppend(List<Shot> shots) {
+            this.shots = shots;
+        }
+    }
+}
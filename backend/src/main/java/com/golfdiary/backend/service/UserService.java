@@ -3,44 +3,63 @@ package com.golfdiary.backend.service;
 import com.golfdiary.backend.entity.User;
 import com.golfdiary.backend.entity.UserRole;
 import com.golfdiary.backend.repository.UserRepository;
+import com.golfdiary.backend.security.JwtPrincipal;
+import com.golfdiary.backend.security.JwtTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final JwtTokenCache tokenCache;
+    private final AccountNameIndex accountNameIndex;
+    private final TransactionTemplate primaryRead;
+    private final Timer loadUserTimer;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtTokenCache tokenCache,
+                       AccountNameIndex accountNameIndex, PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.tokenCache = tokenCache;
+        this.accountNameIndex = accountNameIndex;
+        this.primaryRead = new TransactionTemplate(transactionManager);
+        this.loadUserTimer = Timer.builder("golfdiary.users.load")
+                .description("UserDetails lookup time")
+                .register(meterRegistry);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
-        return user;
+        long start = System.nanoTime();
+        try {
+            User user = userRepository.findByUsername(username)
+                    .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+            return user;
+        } finally {
+            loadUserTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
     }
 
+    // A single insert; the unique indexes on username and email reject duplicates, including
+    // concurrent sign-ups for the same name
     public User registerUser(String username, String email, String password, String firstName, String lastName, UserRole role) {
-        // Check if username already exists
-        if (userRepository.existsByUsername(username)) {
-            throw new RuntimeException("Username already exists");
-        }
-
-        // Check if email already exists
-        if (userRepository.existsByEmail(email)) {
-            throw new RuntimeException("Email already exists");
-        }
-
-        // Create new user
         User user = new User();
         user.setUsername(username);
         user.setEmail(email);
@@ -49,14 +68,83 @@ public class UserService implements UserDetailsService {
         user.setLastName(lastName);
         user.setRole(role);
 
-        return userRepository.save(user);
+        User saved;
+        try {
+            saved = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            // Rare path: find out which unique column collided. Read-write so it reads the primary,
+            // where the other account may be too new to have reached a replica
+            String conflict = primaryRead.execute(status -> userRepository.existsByUsername(username)
+                    ? "Username already exists"
+                    : userRepository.existsByEmail(email) ? "Email already exists" : null);
+            throw new RuntimeException(conflict != null ? conflict : "Registration failed", e);
+        }
+        accountNameIndex.add(saved.getUsername(), saved.getEmail());
+        return saved;
+    }
+
+    // Definitely free when the filter has never seen the name; otherwise the database decides
+    @Transactional(readOnly = true)
+    public boolean isUsernameAvailable(String username) {
+        return !accountNameIndex.mightContainUsername(username) || !userRepository.existsByUsername(username);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isEmailAvailable(String email) {
+        return !accountNameIndex.mightContainEmail(email) || !userRepository.existsByEmail(email);
     }
 
+    @Transactional(readOnly = true)
     public Optional<User> findByUsername(String username) {
         return userRepository.findByUsername(username);
     }
 
+    @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
         return userRepository.findByEmail(email);
     }
-} 
\ No newline at end of file
+
+    // Resolves the authenticated user. Claims-based principals become an unloaded reference,
+    // so the row is only queried if something actually reads the user's fields.
+    @Transactional(readOnly = true)
+    public User getCurrentUser(Authentication authentication) {
+        if (authentication == null) {
+            return null;
+        }
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof User user) {
+            return user;
+        }
+        if (principal instanceof JwtPrincipal jwtPrincipal) {
+            return userRepository.getReferenceById(jwtPrincipal.getId());
+        }
+        return userRepository.findByUsername(authentication.getName()).orElse(null);
+    }
+
+    @Transactional(readOnly = true)
+    public UserRole getCurrentRole(Authentication authentication) {
+        if (authentication == null) {
+            return null;
+        }
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof User user) {
+            return user.getRole();
+        }
+        if (principal instanceof JwtPrincipal jwtPrincipal) {
+            return jwtPrincipal.getRole();
+        }
+        return userRepository.findByUsername(authentication.getName()).map(User::getRole).orElse(null);
+    }
+
+    // Older tokens are no longer served from the token cache or trusted for their claims
+    @Transactional
+    public void changePassword(Long userId, String currentPassword, String newPassword) {
+        User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
+        if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
+            throw new IllegalArgumentException("Current password is incorrect");
+        }
+        user.setPassword(passwordEncoder.encode(newPassword));
+        userRepository.save(user);
+        tokenCache.evictUser(user.getUsername());
+    }
+}
@@ -0,0 +1,87 @@
+package com.golfdiary.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.golfdiary.backend.diagnostics.QueryBudgetTestConfig;
+import com.golfdiary.backend.entity.UserRole;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the whole application against in-memory H2 with statement counting switched on. Test classes
+ * with the same configuration share one context and database, so tests work with users of their own.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(QueryBudgetTestConfig.class)
+abstract class ApiTest {
+
+    protected static final String PASSWORD = "secret1";
+    private static final AtomicInteger USERS = new AtomicInteger();
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    // Registers a user with a name no other test uses and returns the name
+    protected String registerUser(UserRole role) throws Exception {
+        String username = "user" + USERS.incrementAndGet();
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("username", username, "email", username + "@example.com",
+                                "password", PASSWORD, "firstName", "Test", "lastName", "User",
+                                "role", role.name()))))
+                .andExpect(status().isOk());
+        return username;
+    }
+
+    protected String login(String username, String password) throws Exception {
+        MvcResult started = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("username", username, "password", password))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn();
+        return body(result).get("token").asText();
+    }
+
+    protected String registerAndLogin(UserRole role) throws Exception {
+        return login(registerUser(role), PASSWORD);
+    }
+
+    protected static RequestPostProcessor bearer(String token) {
+        return request -> {
+            request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+            return request;
+        };
+    }
+
+    protected String json(Object value) throws Exception {
+        return objectMapper.writeValueAsString(value);
+    }
+
+    protected JsonNode body(MvcResult result) throws Exception {
+        return objectMapper.readTree(result.getResponse().getContentAsString());
+    }
+}
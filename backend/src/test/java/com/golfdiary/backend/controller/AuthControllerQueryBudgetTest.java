@@ -0,0 +1,91 @@
+package com.golfdiary.backend.controller;
+
+import com.golfdiary.backend.entity.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Map;
+
+import static com.golfdiary.backend.diagnostics.QueryBudgets.withinBudget;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class AuthControllerQueryBudgetTest extends ApiTest {
+
+    @Test
+    void register() throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("username", "budget-register", "email", "budget-register@example.com",
+                                "password", PASSWORD, "firstName", "Test", "lastName", "User", "role", "STUDENT"))))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void registerDuplicate() throws Exception {
+        String username = registerUser(UserRole.STUDENT);
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("username", username, "email", username + "@example.com",
+                                "password", PASSWORD, "firstName", "Test", "lastName", "User", "role", "STUDENT"))))
+                .andExpect(status().isBadRequest())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void login() throws Exception {
+        String username = registerUser(UserRole.STUDENT);
+        MvcResult started = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("username", username, "password", PASSWORD))))
+                .andExpect(request().asyncStarted())
+                .andExpect(withinBudget())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void changePassword() throws Exception {
+        String username = registerUser(UserRole.STUDENT);
+        String token = login(username, PASSWORD);
+        mockMvc.perform(put("/api/auth/password").with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("currentPassword", PASSWORD, "newPassword", "secret2"))))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+        login(username, "secret2");
+    }
+
+    @Test
+    void checkAvailability() throws Exception {
+        String username = registerUser(UserRole.STUDENT);
+        mockMvc.perform(get("/api/auth/availability")
+                        .param("username", username)
+                        .param("email", username + "@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void checkUser() throws Exception {
+        String username = registerUser(UserRole.STUDENT);
+        mockMvc.perform(get("/api/auth/check-user/{username}", username))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void test() throws Exception {
+        mockMvc.perform(get("/api/auth/test"))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+}
@@ -0,0 +1,226 @@
+package com.golfdiary.backend.controller;
+
+import com.golfdiary.backend.entity.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.golfdiary.backend.diagnostics.QueryBudgets.withinBudget;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class GolfRoundControllerQueryBudgetTest extends ApiTest {
+
+    private String token;
+    private long roundId;
+
+    @BeforeEach
+    void createRounds() throws Exception {
+        token = registerAndLogin(UserRole.STUDENT);
+        for (int month = 1; month <= 3; month++) {
+            MvcResult result = mockMvc.perform(post("/api/golf-rounds").with(bearer(token))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(json(round("Pebble Beach", "2026-0" + month + "-01T10:00:00", 80 + month))))
+                    .andExpect(status().isOk())
+                    .andReturn();
+            roundId = body(result).get("id").asLong();
+        }
+    }
+
+    @Test
+    void createRoundOnNewCourse() throws Exception {
+        mockMvc.perform(post("/api/golf-rounds").with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(round("Course " + System.nanoTime(), "2026-04-01T10:00:00", 79))))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void createRound() throws Exception {
+        mockMvc.perform(post("/api/golf-rounds").with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(round("Pebble Beach", "2026-04-01T10:00:00", 79))))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void updateRound() throws Exception {
+        mockMvc.perform(put("/api/golf-rounds/{id}", roundId).with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(round("Pebble Beach", "2026-03-02T10:00:00", 77))))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void deleteRound() throws Exception {
+        mockMvc.perform(delete("/api/golf-rounds/{id}", roundId).with(bearer(token)))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void getAllRounds() throws Exception {
+        mockMvc.perform(get("/api/golf-rounds").with(bearer(token)).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void getAllRoundsNotModified() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/golf-rounds").with(bearer(token)))
+                .andExpect(status().isOk())
+                .andReturn();
+        mockMvc.perform(get("/api/golf-rounds").with(bearer(token))
+                        .header(HttpHeaders.IF_NONE_MATCH, result.getResponse().getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void getRoundById() throws Exception {
+        mockMvc.perform(get("/api/golf-rounds/{id}", roundId).with(bearer(token)))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void getRoundsByCourse() throws Exception {
+        mockMvc.perform(get("/api/golf-rounds/course/{courseName}", "pebble beach").with(bearer(token)))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void getRoundsByDateRange() throws Exception {
+        mockMvc.perform(get("/api/golf-rounds/date-range").with(bearer(token))
+                        .param("startDate", "2026-01-01T00:00:00")
+                        .param("endDate", "2026-12-31T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void getStatistics() throws Exception {
+        mockMvc.perform(get("/api/golf-rounds/stats").with(bearer(token)).param("courseName", "Pebble Beach"))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void getCareerStatistics() throws Exception {
+        mockMvc.perform(get("/api/golf-rounds/stats/career").with(bearer(token)))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void getRollingTrend() throws Exception {
+        mockMvc.perform(get("/api/golf-rounds/trends").with(bearer(token)).param("window", "2"))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void getBucketTrend() throws Exception {
+        mockMvc.perform(get("/api/golf-rounds/trends").with(bearer(token)).param("bucket", "month"))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void getBucketTrendNotModifiedOnlyWithinBucket() throws Exception {
+        String etag = mockMvc.perform(get("/api/golf-rounds/trends").with(bearer(token)).param("bucket", "month"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/api/golf-rounds/trends").with(bearer(token)).param("bucket", "month")
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(withinBudget());
+
+        // The same tag issued last month names buckets that have moved on
+        LocalDate monthStart = LocalDate.now().withDayOfMonth(1);
+        String lastMonth = etag.replace(monthStart.toString(), monthStart.minusMonths(1).toString());
+        mockMvc.perform(get("/api/golf-rounds/trends").with(bearer(token)).param("bucket", "month")
+                        .header(HttpHeaders.IF_NONE_MATCH, lastMonth))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void exportRounds() throws Exception {
+        MvcResult started = mockMvc.perform(get("/api/golf-rounds/export").with(bearer(token)))
+                .andExpect(request().asyncStarted())
+                .andExpect(withinBudget())
+                .andReturn();
+        String exported = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        assertEquals(3, exported.lines().count());
+    }
+
+    @Test
+    void importRoundsJson() throws Exception {
+        mockMvc.perform(post("/api/golf-rounds/import").with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(List.of(round("Pebble Beach", "2025-05-01T10:00:00", 84),
+                                round("Pebble Beach", "2025-06-01T10:00:00", 82)))))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void importRoundsCsv() throws Exception {
+        mockMvc.perform(post("/api/golf-rounds/import").with(bearer(token))
+                        .contentType("text/csv")
+                        .content(csv()))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void importRoundsFile() throws Exception {
+        MockMultipartFile file = new MockMultipartFile("file", "rounds.csv", "text/csv", csv().getBytes());
+        mockMvc.perform(multipart("/api/golf-rounds/import").file(file).with(bearer(token)))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    private static Map<String, Object> round(String courseName, String roundDate, int totalScore) {
+        Map<String, Object> round = new HashMap<>();
+        round.put("courseName", courseName);
+        round.put("roundDate", roundDate);
+        round.put("totalScore", totalScore);
+        round.put("par", 72);
+        round.put("birdies", 1);
+        round.put("pars", 9);
+        round.put("bogeys", 6);
+        round.put("doubleBogeys", 2);
+        round.put("other", 0);
+        round.put("courseRating", 72.1);
+        round.put("slopeRating", 130);
+        return round;
+    }
+
+    private static String csv() {
+        return "courseName,roundDate,totalScore,par\n"
+                + "Pebble Beach,2025-07-01T10:00:00,85,72\n"
+                + "Pebble Beach,2025-08-01T10:00:00,83,72\n";
+    }
+}
@@ -0,0 +1,91 @@
+package com.golfdiary.backend.controller;
+
+import com.golfdiary.backend.entity.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Update and delete first load the round in a read-only transaction, which reads the replica. The
+ * write that follows in the same request must still reach the primary.
+ */
+@ActiveProfiles("replica-local")
+@TestPropertySource(properties = {
+        "datasource.replica.sticky-window-ms=0",
+        "datasource.replica.local-sync-interval-ms=100"
+})
+class GolfRoundControllerReplicaTest extends ApiTest {
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private String token;
+    private long roundId;
+
+    @BeforeEach
+    void createReplicatedRound() throws Exception {
+        token = registerAndLogin(UserRole.STUDENT);
+        String body = mockMvc.perform(post("/api/golf-rounds").with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("courseName", "Pebble Beach", "roundDate", "2026-05-01T10:00:00",
+                                "totalScore", 85, "par", 72))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        roundId = objectMapper.readTree(body).get("id").asLong();
+        awaitReplicated(roundId);
+    }
+
+    @Test
+    void updateAfterReplicaReadWritesPrimary() throws Exception {
+        mockMvc.perform(put("/api/golf-rounds/{id}", roundId).with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("courseName", "Pebble Beach", "roundDate", "2026-05-01T10:00:00",
+                                "totalScore", 79, "par", 72))))
+                .andExpect(status().isOk());
+
+        assertEquals(79, new JdbcTemplate(primaryDataSource).queryForObject(
+                "SELECT total_score FROM golf_rounds WHERE id = ?", Integer.class, roundId));
+    }
+
+    @Test
+    void deleteAfterReplicaReadWritesPrimary() throws Exception {
+        mockMvc.perform(delete("/api/golf-rounds/{id}", roundId).with(bearer(token)))
+                .andExpect(status().isOk());
+
+        assertEquals(0, new JdbcTemplate(primaryDataSource).queryForObject(
+                "SELECT COUNT(*) FROM golf_rounds WHERE id = ?", Integer.class, roundId));
+    }
+
+    // The read-only lookup in the request only finds the round once the sync has copied it
+    private void awaitReplicated(long id) throws InterruptedException {
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        for (int attempt = 0; attempt < 100; attempt++) {
+            Integer count = replica.queryForObject("SELECT COUNT(*) FROM golf_rounds WHERE id = ?", Integer.class, id);
+            if (count != null && count > 0) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        fail("Round " + id + " never reached the replica");
+    }
+}
@@ -0,0 +1,71 @@
+package com.golfdiary.backend.controller;
+
+import com.golfdiary.backend.entity.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class GolfRoundControllerScorecardTest extends ApiTest {
+
+    private String token;
+
+    @BeforeEach
+    void login() throws Exception {
+        token = registerAndLogin(UserRole.STUDENT);
+    }
+
+    @Test
+    void scorecardOverridesPostedTotals() throws Exception {
+        int[] par = {4, 4, 3, 5, 4, 4, 3, 5, 4, 4, 4, 3, 5, 4, 4, 3, 5, 4};
+        int[] strokes = Arrays.copyOf(par, par.length);
+        strokes[0] = 3;  // birdie
+        strokes[3] = 3;  // eagle, counted as a birdie
+        strokes[5] = 5;  // bogey
+        strokes[6] = 4;  // bogey
+        strokes[9] = 6;  // double bogey
+        strokes[14] = 8; // quadruple bogey, counted as other
+        Integer[] putts = new Integer[par.length];
+        putts[0] = 1;
+
+        String body = mockMvc.perform(post("/api/golf-rounds").with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("courseName", "Pebble Beach", "roundDate", "2026-05-01T10:00:00",
+                                "totalScore", 100, "par", 70, "birdies", 0, "pars", 0,
+                                "scorecard", Map.of("par", par, "strokes", strokes, "putts", putts)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalScore").value(77))
+                .andExpect(jsonPath("$.par").value(72))
+                .andExpect(jsonPath("$.birdies").value(2))
+                .andExpect(jsonPath("$.pars").value(12))
+                .andExpect(jsonPath("$.bogeys").value(2))
+                .andExpect(jsonPath("$.doubleBogeys").value(1))
+                .andExpect(jsonPath("$.other").value(1))
+                .andReturn().getResponse().getContentAsString();
+        long roundId = objectMapper.readTree(body).get("id").asLong();
+
+        mockMvc.perform(get("/api/golf-rounds/{id}", roundId).with(bearer(token)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalScore").value(77))
+                .andExpect(jsonPath("$.scorecard.strokes[0]").value(3))
+                .andExpect(jsonPath("$.scorecard.putts[0]").value(1))
+                .andExpect(jsonPath("$.scorecard.putts[1]").doesNotExist())
+                .andExpect(jsonPath("$.scorecard.fairwayHit.length()").value(par.length));
+    }
+
+    @Test
+    void invalidScorecardIsRejected() throws Exception {
+        mockMvc.perform(post("/api/golf-rounds").with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("courseName", "Pebble Beach", "roundDate", "2026-05-01T10:00:00",
+                                "scorecard", Map.of("par", new int[] {4, 4}, "strokes", new int[] {4})))))
+                .andExpect(status().isBadRequest());
+    }
+}
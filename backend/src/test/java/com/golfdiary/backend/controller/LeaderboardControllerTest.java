@@ -0,0 +1,97 @@
+package com.golfdiary.backend.controller;
+
+import com.golfdiary.backend.entity.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.Map;
+
+import static com.golfdiary.backend.diagnostics.QueryBudgets.withinBudget;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class LeaderboardControllerTest extends ApiTest {
+
+    private String course;
+    private String firstToken;
+    private String secondToken;
+    private long worstRoundId;
+
+    @BeforeEach
+    void createRounds() throws Exception {
+        // A course of its own, since the boards live as long as the shared context
+        course = "Course " + System.nanoTime();
+        firstToken = registerAndLogin(UserRole.STUDENT);
+        secondToken = registerAndLogin(UserRole.STUDENT);
+        createRound(firstToken, "2025-08-01T10:00:00", 78, 72);
+        createRound(secondToken, "2026-05-01T10:00:00", 75, 70);
+        createRound(secondToken, "2026-05-02T10:00:00", 78, 72);
+        worstRoundId = createRound(firstToken, "2026-06-01T10:00:00", 90, 72);
+    }
+
+    @Test
+    void grossBoardRanksTiesTogether() throws Exception {
+        mockMvc.perform(get("/api/leaderboards/{courseName}", course).with(bearer(firstToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courseName").value(course))
+                .andExpect(jsonPath("$.metric").value("gross"))
+                .andExpect(jsonPath("$.entries[*].totalScore").value(contains(75, 78, 78, 90)))
+                .andExpect(jsonPath("$.entries[*].rank").value(contains(1, 2, 2, 4)))
+                .andExpect(jsonPath("$.entries[*].roundDate").value(contains("2026-05-01T10:00:00",
+                        "2025-08-01T10:00:00", "2026-05-02T10:00:00", "2026-06-01T10:00:00")))
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void seasonBoardByScoreToPar() throws Exception {
+        mockMvc.perform(get("/api/leaderboards/{courseName}", course).with(bearer(firstToken))
+                        .param("metric", "to-par").param("season", "2026").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.season").value(2026))
+                .andExpect(jsonPath("$.entries[*].score").value(contains(5, 6)))
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void deletedRoundLeavesTheBoard() throws Exception {
+        mockMvc.perform(delete("/api/golf-rounds/{id}", worstRoundId).with(bearer(firstToken)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/leaderboards/{courseName}", course).with(bearer(firstToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries[*].totalScore").value(contains(75, 78, 78)));
+    }
+
+    @Test
+    void unknownCourseHasAnEmptyBoard() throws Exception {
+        mockMvc.perform(get("/api/leaderboards/{courseName}", "Nowhere " + System.nanoTime()).with(bearer(firstToken)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries").value(empty()));
+    }
+
+    @Test
+    void invalidParametersAreRejected() throws Exception {
+        mockMvc.perform(get("/api/leaderboards/{courseName}", course).with(bearer(firstToken)).param("metric", "net"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/leaderboards/{courseName}", course).with(bearer(firstToken)).param("limit", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/leaderboards/{courseName}", course).with(bearer(firstToken)).param("season", "99"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private long createRound(String token, String roundDate, int totalScore, int par) throws Exception {
+        String body = mockMvc.perform(post("/api/golf-rounds").with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("courseName", course, "roundDate", roundDate,
+                                "totalScore", totalScore, "par", par))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+}
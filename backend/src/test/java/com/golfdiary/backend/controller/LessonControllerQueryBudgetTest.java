@@ -0,0 +1,158 @@
+package com.golfdiary.backend.controller;
+
+import com.golfdiary.backend.entity.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Map;
+
+import static com.golfdiary.backend.diagnostics.QueryBudgets.withinBudget;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class LessonControllerQueryBudgetTest extends ApiTest {
+
+    private String token;
+    private long lessonId;
+
+    @BeforeEach
+    void createPublishedLesson() throws Exception {
+        token = registerAndLogin(UserRole.INSTRUCTOR);
+        MvcResult result = mockMvc.perform(post("/api/lessons").with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(lesson("Lag putting drills"))))
+                .andExpect(status().isOk())
+                .andReturn();
+        lessonId = body(result).get("id").asLong();
+        mockMvc.perform(post("/api/lessons/{id}/publish", lessonId).with(bearer(token)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getAllLessons() throws Exception {
+        mockMvc.perform(get("/api/lessons"))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void getLessonsByCategory() throws Exception {
+        mockMvc.perform(get("/api/lessons/category/{category}", "PUTTING"))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void getLessonsByLevel() throws Exception {
+        mockMvc.perform(get("/api/lessons/level/{level}", "BEGINNER"))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void searchLessons() throws Exception {
+        mockMvc.perform(get("/api/lessons/search").param("q", "putting"))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void getLessonById() throws Exception {
+        mockMvc.perform(get("/api/lessons/{id}", lessonId))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void createLesson() throws Exception {
+        mockMvc.perform(post("/api/lessons").with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(lesson("Reading greens"))))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void getInstructorLessons() throws Exception {
+        mockMvc.perform(get("/api/lessons/instructor").with(bearer(token)))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void getInstructorLesson() throws Exception {
+        mockMvc.perform(get("/api/lessons/instructor/{id}", lessonId).with(bearer(token)))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    // Another instructor's view of the same catalog version must not revalidate against this one
+    @Test
+    void instructorLessonTagsDifferPerInstructor() throws Exception {
+        String other = registerAndLogin(UserRole.INSTRUCTOR);
+        String mine = mockMvc.perform(get("/api/lessons/instructor").with(bearer(token)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String theirs = mockMvc.perform(get("/api/lessons/instructor").with(bearer(other)))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(mine, theirs);
+    }
+
+    @Test
+    void updateLesson() throws Exception {
+        mockMvc.perform(put("/api/lessons/{id}", lessonId).with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(lesson("Lag putting from 40 feet"))))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void deleteLesson() throws Exception {
+        mockMvc.perform(delete("/api/lessons/{id}", lessonId).with(bearer(token)))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void publishLesson() throws Exception {
+        mockMvc.perform(post("/api/lessons/{id}/publish", lessonId).with(bearer(token)))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void unpublishLesson() throws Exception {
+        mockMvc.perform(post("/api/lessons/{id}/unpublish", lessonId).with(bearer(token)))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void testEndpoints() throws Exception {
+        mockMvc.perform(get("/api/lessons/test"))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+        mockMvc.perform(get("/api/lessons/public-test"))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    @Test
+    void debug() throws Exception {
+        mockMvc.perform(get("/api/lessons/debug"))
+                .andExpect(status().isOk())
+                .andExpect(withinBudget());
+    }
+
+    private static Map<String, Object> lesson(String title) {
+        return Map.of("title", title, "description", "Distance control on long putts",
+                "content", "Pace first, line second.", "category", "PUTTING", "level", "BEGINNER");
+    }
+}
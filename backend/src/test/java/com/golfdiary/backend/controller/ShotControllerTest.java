@@ -0,0 +1,59 @@
+package com.golfdiary.backend.controller;
+
+import com.golfdiary.backend.entity.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * A full shot buffer turns into 503 with Retry-After. The flush interval outlasts the test so the
+ * buffer only fills up. The database and log directory are this context's own, so its schema
+ * creation does not reset the tables under the shared context.
+ */
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:golf_diary_shots;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "shots.log.directory=target/test-shot-log-full",
+        "shots.buffer.capacity=2",
+        "shots.flush.interval-ms=5000",
+        "shots.retry-after-seconds=3"
+})
+class ShotControllerTest extends ApiTest {
+
+    @Test
+    void fullBufferAnswersServiceUnavailable() throws Exception {
+        String token = registerAndLogin(UserRole.STUDENT);
+        String round = mockMvc.perform(post("/api/golf-rounds").with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(Map.of("courseName", "Pebble Beach", "roundDate", "2026-05-01T10:00:00",
+                                "totalScore", 85, "par", 72))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        long roundId = objectMapper.readTree(round).get("id").asLong();
+
+        mockMvc.perform(post("/api/golf-rounds/{roundId}/shots", roundId).with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(List.of(shot(1), shot(2)))))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.accepted").value(2));
+
+        mockMvc.perform(post("/api/golf-rounds/{roundId}/shots", roundId).with(bearer(token))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(List.of(shot(3)))))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "3"))
+                .andExpect(jsonPath("$.accepted").value(0));
+    }
+
+    private static Map<String, Object> shot(int hole) {
+        return Map.of("hole", hole, "shotNumber", 1, "club", "7i", "distance", 150);
+    }
+}
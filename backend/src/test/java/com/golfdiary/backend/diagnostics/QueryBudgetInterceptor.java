@@ -0,0 +1,36 @@
+package com.golfdiary.backend.diagnostics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Opens a {@link QueryCounter} scope while a {@link QueryBudget} endpoint handles a request, so the
+ * statements it issues (including lazy loads during response serialization) are counted. MockMvc
+ * runs the request on the test thread, where {@link QueryBudgets#withinBudget()} checks the result.
+ * Statements issued by servlet filters (before the handler) or on other threads are not counted.
+ */
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+            if (budget != null) {
+                QueryCounter.start(request.getMethod() + " " + request.getRequestURI(), budget.value());
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        QueryCounter.end();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryCounter.end();
+    }
+}
@@ -0,0 +1,27 @@
+package com.golfdiary.backend.diagnostics;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.fail;
+
+public final class QueryBudgets {
+
+    private QueryBudgets() {
+    }
+
+    /**
+     * Fails when the request just performed issued more statements than its endpoint's
+     * {@link QueryBudget}, listing them. Endpoints without a budget fail too, so none goes unchecked.
+     */
+    public static ResultMatcher withinBudget() {
+        return result -> {
+            QueryCounter.Scope scope = QueryCounter.takeLast();
+            assertNotNull(scope, () -> "No @QueryBudget on " + result.getRequest().getMethod() + " "
+                    + result.getRequest().getRequestURI());
+            if (scope.isExceeded()) {
+                fail("Query budget exceeded: " + scope.report());
+            }
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package com.golfdiary.backend.diagnostics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Sees every SQL statement Hibernate prepares (queries, lazy loads, inserts, updates and deletes)
+ * and hands it to {@link QueryCounter}. Statements are passed through unchanged.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,83 @@
+package com.golfdiary.backend.diagnostics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-thread record of the statements issued while a request with a {@link QueryBudget} runs.
+ * Fed by {@link QueryCountInspector}; statements outside an open scope are not tracked. The last
+ * finished scope is kept so the test that sent the request can check it.
+ */
+public final class QueryCounter {
+
+    // Statements kept for the report; the count itself is always exact
+    private static final int MAX_RECORDED = 50;
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Scope> LAST = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    static void start(String endpoint, int budget) {
+        CURRENT.set(new Scope(endpoint, budget));
+    }
+
+    static void end() {
+        Scope scope = CURRENT.get();
+        CURRENT.remove();
+        if (scope != null) {
+            LAST.set(scope);
+        }
+    }
+
+    // The scope of the last budgeted request on this thread, cleared once read
+    static Scope takeLast() {
+        Scope scope = LAST.get();
+        LAST.remove();
+        return scope;
+    }
+
+    static void record(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.record(sql);
+        }
+    }
+
+    static final class Scope {
+        private final String endpoint;
+        private final int budget;
+        private final List<String> statements = new ArrayList<>();
+        private int count;
+
+        private Scope(String endpoint, int budget) {
+            this.endpoint = endpoint;
+            this.budget = budget;
+        }
+
+        private void record(String sql) {
+            count++;
+            if (statements.size() < MAX_RECORDED) {
+                statements.add(sql);
+            }
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        boolean isExceeded() {
+            return count > budget;
+        }
+
+        String report() {
+            StringBuilder report = new StringBuilder()
+                    .append(endpoint).append(" issued ").append(count)
+                    .append(" statements, budget is ").append(budget);
+            for (int i = 0; i < statements.size(); i++) {
+                report.append("\n  ").append(i + 1).append(": ").append(statements.get(i));
+            }
+            return report.toString();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.golfdiary.backend.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GolfRoundTest {
+
+    @Test
+    void eighteenHoleCardGetsDifferential() {
+        GolfRound round = ratedRound(card(18, 4, 5));
+        round.applyScorecard();
+        round.recalculateScoreDifferential();
+
+        assertThat(round.getTotalScore()).isEqualTo(90);
+        assertThat(round.getScoreDifferential()).isEqualTo(18.0);
+    }
+
+    @Test
+    void nineHoleCardGetsNoDifferential() {
+        // 45 against an 18-hole rating of 72.0 would be a differential of -27.0
+        GolfRound round = ratedRound(card(9, 4, 5));
+        round.applyScorecard();
+        round.recalculateScoreDifferential();
+
+        assertThat(round.getTotalScore()).isEqualTo(45);
+        assertThat(round.getPar()).isEqualTo(36);
+        assertThat(round.getScoreDifferential()).isNull();
+    }
+
+    @Test
+    void roundWithoutCardUsesTotalScore() {
+        GolfRound round = ratedRound(null);
+        round.setTotalScore(85);
+        round.recalculateScoreDifferential();
+
+        assertThat(round.getScoreDifferential()).isEqualTo(13.0);
+    }
+
+    private static GolfRound ratedRound(Scorecard scorecard) {
+        GolfRound round = new GolfRound();
+        round.setCourseRating(72.0);
+        round.setSlopeRating(113);
+        round.setScorecard(scorecard);
+        return round;
+    }
+
+    private static Scorecard card(int holes, int par, int strokes) {
+        int[] pars = new int[holes];
+        int[] scores = new int[holes];
+        Arrays.fill(pars, par);
+        Arrays.fill(scores, strokes);
+        return Scorecard.of(pars, scores, null, null, null);
+    }
+}
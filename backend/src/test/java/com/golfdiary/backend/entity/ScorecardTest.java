@@ -0,0 +1,126 @@
+package com.golfdiary.backend.entity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ScorecardTest {
+
+    // Birdie with fairway and green, par without putts, double bogey with both missed, bogey
+    private static final String TEXT = "4:3:1:FG 3:3 5:7:-:fg 4:5:2";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void textRoundTrip() {
+        Scorecard card = Scorecard.parse(TEXT);
+
+        assertThat(card.toString()).isEqualTo(TEXT);
+        assertThat(Scorecard.parse(card.toString())).isEqualTo(card);
+        // Whitespace is not significant
+        assertThat(Scorecard.parse("  4:3:1:FG   3:3\t5:7:-:fg 4:5:2 ")).isEqualTo(card);
+    }
+
+    @Test
+    void packedRoundTrip() {
+        Scorecard card = Scorecard.parse(TEXT);
+        ScorecardConverter converter = new ScorecardConverter();
+
+        byte[] packed = converter.convertToDatabaseColumn(card);
+        assertThat(packed).hasSize(4 * Scorecard.BYTES_PER_HOLE);
+        assertThat(converter.convertToEntityAttribute(packed)).isEqualTo(card);
+        assertThat(converter.convertToEntityAttribute(new byte[0])).isNull();
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+    }
+
+    @Test
+    void accessorsDecodeEveryField() {
+        Scorecard card = Scorecard.of(new int[] {4, 3, 5, 4}, new int[] {3, 3, 7, 5},
+                new Integer[] {1, null, null, 2}, new Boolean[] {true, null, false, null},
+                new Boolean[] {true, null, false, null});
+
+        assertThat(card).isEqualTo(Scorecard.parse(TEXT));
+        assertThat(card.getHoleCount()).isEqualTo(4);
+        assertThat(card.pars()).containsExactly(4, 3, 5, 4);
+        assertThat(card.strokes()).containsExactly(3, 3, 7, 5);
+        assertThat(card.putts()).containsExactly(1, -1, -1, 2);
+        assertThat(card.totalPar()).isEqualTo(16);
+        assertThat(card.totalStrokes()).isEqualTo(18);
+        assertThat(card.isFairwayRecorded(0)).isTrue();
+        assertThat(card.isFairwayHit(0)).isTrue();
+        assertThat(card.isFairwayRecorded(1)).isFalse();
+        assertThat(card.isFairwayRecorded(2)).isTrue();
+        assertThat(card.isFairwayHit(2)).isFalse();
+        assertThat(card.isGreenInRegulation(0)).isTrue();
+        assertThat(card.isGreenRecorded(2)).isTrue();
+        assertThat(card.isGreenInRegulation(2)).isFalse();
+        assertThat(card.isGreenRecorded(3)).isFalse();
+    }
+
+    @Test
+    void valuesOutOfRangeAreRejected() {
+        assertInvalid("2:3", "Hole 1 par must be between 3 and 6");
+        assertInvalid("4:4 7:7", "Hole 2 par must be between 3 and 6");
+        assertInvalid("4:0", "Hole 1 strokes must be between 1 and 20");
+        assertInvalid("4:21", "Hole 1 strokes must be between 1 and 20");
+        assertInvalid("4:4:4", "Hole 1 putts must be between 0 and strokes - 1");
+        assertInvalid("4:4:-1", "Hole 1 putts must be between 0 and strokes - 1");
+        assertInvalid("4:4 ".repeat(19), "Scorecard must have between 1 and 18 holes");
+        assertInvalid(" ", "Scorecard must have between 1 and 18 holes");
+        assertInvalid("4", "Hole 1 is not par:strokes[:putts[:flags]]");
+        assertInvalid("4:4:2:F:x", "Hole 1 is not par:strokes[:putts[:flags]]");
+        assertInvalid("4:four", "Hole 1 has a non-numeric value: four");
+        assertInvalid("4:4:2:X", "Hole 1 has unknown flag X");
+
+        assertThat(Scorecard.parse("4:4 ".repeat(18)).getHoleCount()).isEqualTo(Scorecard.MAX_HOLES);
+        assertThat(Scorecard.parse("3:1:0 6:20:19").toString()).isEqualTo("3:1:0 6:20:19");
+    }
+
+    @Test
+    void inconsistentArraysAreRejected() {
+        assertThatThrownBy(() -> Scorecard.of(null, new int[] {4}, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Scorecard needs par and strokes for every hole");
+        assertThatThrownBy(() -> Scorecard.of(new int[0], new int[0], null, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Scorecard must have between 1 and 18 holes");
+        assertThatThrownBy(() -> Scorecard.of(new int[] {4, 4}, new int[] {4, 4}, new Integer[] {2}, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Scorecard arrays must all have 2 entries");
+        assertThatThrownBy(() -> new Scorecard(new byte[5]))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid packed scorecard of 5 bytes");
+        assertThatThrownBy(() -> new Scorecard(new byte[Scorecard.MAX_BYTES + Scorecard.BYTES_PER_HOLE]))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void jsonRoundTrip() throws Exception {
+        Scorecard card = Scorecard.parse(TEXT);
+
+        String json = objectMapper.writeValueAsString(card);
+        assertThat(json).isEqualTo("{\"par\":[4,3,5,4],\"strokes\":[3,3,7,5],\"putts\":[1,null,null,2],"
+                + "\"fairwayHit\":[true,null,false,null],\"greenInRegulation\":[true,null,false,null]}");
+        assertThat(objectMapper.readValue(json, Scorecard.class)).isEqualTo(card);
+    }
+
+    @Test
+    void jsonCreatorTakesPartialCardsAndValidates() throws Exception {
+        Scorecard card = objectMapper.readValue("{\"par\":[4,5],\"strokes\":[4,6]}", Scorecard.class);
+        assertThat(card.toString()).isEqualTo("4:4 5:6");
+
+        assertThatThrownBy(() -> objectMapper.readValue("{\"par\":[4],\"strokes\":[0]}", Scorecard.class))
+                .isInstanceOf(ValueInstantiationException.class)
+                .hasRootCauseInstanceOf(IllegalArgumentException.class)
+                .hasRootCauseMessage("Hole 1 strokes must be between 1 and 20");
+    }
+
+    private static void assertInvalid(String text, String message) {
+        assertThatThrownBy(() -> Scorecard.parse(text))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(message);
+    }
+}
@@ -0,0 +1,196 @@
+package com.golfdiary.backend.service;
+
+import com.golfdiary.backend.dto.Leaderboard;
+import com.golfdiary.backend.dto.LeaderboardEntry;
+import com.golfdiary.backend.entity.Course;
+import com.golfdiary.backend.entity.GolfRound;
+import com.golfdiary.backend.entity.User;
+import com.golfdiary.backend.repository.GolfRoundRepository;
+import com.golfdiary.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Boards are built from stubbed repository rows and then changed through the listener calls that
+ * round writes and imports make. Transactions run on an empty H2 database so commit and rollback
+ * callbacks fire as they do in the application.
+ */
+class CourseLeaderboardServiceTest {
+
+    private static final String COURSE = "Pebble Beach";
+    private static final int COURSE_ID = 1;
+
+    private final GolfRoundRepository golfRoundRepository = mock(GolfRoundRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CourseService courseService = mock(CourseService.class);
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new DataSourceTransactionManager(new DriverManagerDataSource(
+                "jdbc:h2:mem:leaderboards-" + UUID.randomUUID(), "sa", ""));
+        Course course = new Course(COURSE);
+        course.setId(COURSE_ID);
+        when(courseService.find(COURSE)).thenReturn(Optional.of(course));
+    }
+
+    @Test
+    void tiedScoresShareARankAndTheEarlierRoundComesFirst() {
+        CourseLeaderboardService service = load(3,
+                row(1, "ann", "2026-05-02T10:00:00", 72, 72),
+                row(2, "ben", "2026-05-01T10:00:00", 72, 72),
+                row(3, "cal", "2026-06-01T10:00:00", 70, 70),
+                row(4, "ann", "2026-07-01T10:00:00", 75, 72));
+
+        Leaderboard gross = service.getLeaderboard(COURSE, null, CourseLeaderboardService.Metric.GROSS, 3);
+        assertThat(gross.getEntries()).extracting(LeaderboardEntry::getRoundId).containsExactly(3L, 2L, 1L);
+        assertThat(gross.getEntries()).extracting(LeaderboardEntry::getRank).containsExactly(1, 2, 2);
+
+        Leaderboard toPar = service.getLeaderboard(COURSE, 2026, CourseLeaderboardService.Metric.TO_PAR, 3);
+        assertThat(toPar.getEntries()).extracting(LeaderboardEntry::getRoundId).containsExactly(2L, 1L, 3L);
+        assertThat(toPar.getEntries()).extracting(LeaderboardEntry::getRank).containsExactly(1, 1, 1);
+        assertThat(toPar.getEntries()).extracting(LeaderboardEntry::getScore).containsExactly(0, 0, 0);
+
+        assertThat(service.getLeaderboard(COURSE, 2025, CourseLeaderboardService.Metric.GROSS, 3).getEntries()).isEmpty();
+        assertThatThrownBy(() -> service.getLeaderboard(COURSE, null, CourseLeaderboardService.Metric.GROSS, 4))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void boardsKeepOnlyTwiceTheirSize() {
+        // Size 2, so each board keeps four rounds: 70 to 73 of these
+        CourseLeaderboardService service = load(2,
+                row(1, "ann", "2026-05-01T10:00:00", 70, 72),
+                row(2, "ann", "2026-05-02T10:00:00", 71, 72),
+                row(3, "ann", "2026-05-03T10:00:00", 72, 72),
+                row(4, "ann", "2026-05-04T10:00:00", 73, 72),
+                row(5, "ann", "2026-05-05T10:00:00", 74, 72),
+                row(6, "ann", "2026-05-06T10:00:00", 75, 72));
+        // A better round pushes 73 off the board
+        GolfRound best = round(7, "2026-05-07T10:00:00", 69);
+        service.onRoundChanged(null, RoundSnapshot.of(best));
+
+        service.onRoundChanged(RoundSnapshot.of(best), null);
+        service.onRoundChanged(RoundSnapshot.of(round(1, "2026-05-01T10:00:00", 70)), null);
+        assertThat(grossRoundIds(service)).containsExactly(2L, 3L);
+        verify(golfRoundRepository, never()).findBestGross(anyInt(), any(), any(), any());
+
+        // Only 72 is left of the kept rounds; 74 and 75 were never kept, so the board goes to the table
+        when(golfRoundRepository.findBestGross(eq(COURSE_ID), isNull(), isNull(), eq(Limit.of(4))))
+                .thenReturn(List.of(row(3, "ann", "2026-05-03T10:00:00", 72, 72),
+                        row(4, "ann", "2026-05-04T10:00:00", 73, 72),
+                        row(5, "ann", "2026-05-05T10:00:00", 74, 72),
+                        row(6, "ann", "2026-05-06T10:00:00", 75, 72)));
+        service.onRoundChanged(RoundSnapshot.of(round(2, "2026-05-02T10:00:00", 71)), null);
+
+        assertThat(grossRoundIds(service)).containsExactly(3L, 4L);
+        assertThat(grossRoundIds(service)).containsExactly(3L, 4L);
+        verify(golfRoundRepository, times(1)).findBestGross(anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void boardsHoldingEveryRoundAreNotReloadedAfterDeletes() {
+        CourseLeaderboardService service = load(2,
+                row(1, "ann", "2026-05-01T10:00:00", 70, 72),
+                row(2, "ann", "2026-05-02T10:00:00", 71, 72),
+                row(3, "ann", "2026-05-03T10:00:00", 72, 72));
+
+        service.onRoundChanged(RoundSnapshot.of(round(1, "2026-05-01T10:00:00", 70)), null);
+        service.onRoundChanged(RoundSnapshot.of(round(2, "2026-05-02T10:00:00", 71)), null);
+
+        assertThat(grossRoundIds(service)).containsExactly(3L);
+        verify(golfRoundRepository, never()).findBestGross(anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void importedRoundsReachTheBoardsOnlyWhenTheImportCommits() {
+        CourseLeaderboardService service = load(2);
+        when(userRepository.findUsernameById(5L)).thenReturn(Optional.of("ann"));
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        transaction.executeWithoutResult(status -> {
+            service.onRoundsInserted(List.of(imported(1, "2026-05-01T10:00:00", 80),
+                    imported(2, "2026-05-02T10:00:00", 78)));
+            status.setRollbackOnly();
+        });
+        assertThat(grossRoundIds(service)).isEmpty();
+
+        transaction.executeWithoutResult(status -> {
+            service.onRoundsInserted(List.of(imported(3, "2026-05-03T10:00:00", 76)));
+            service.onRoundsInserted(List.of(imported(4, "2026-05-04T10:00:00", 74)));
+            // Not visible before the commit
+            assertThat(grossRoundIds(service)).isEmpty();
+        });
+        assertThat(grossRoundIds(service)).containsExactly(4L, 3L);
+        Leaderboard board = service.getLeaderboard(COURSE, null, CourseLeaderboardService.Metric.GROSS, 2);
+        assertThat(board.getEntries()).extracting(LeaderboardEntry::getUsername).containsOnly("ann");
+    }
+
+    private CourseLeaderboardService load(int size, Object[]... rows) {
+        when(golfRoundRepository.streamLeaderboardRows()).thenReturn(List.of(rows).stream());
+        CourseLeaderboardService service = new CourseLeaderboardService(golfRoundRepository, userRepository,
+                courseService, transactionManager, size);
+        service.load();
+        return service;
+    }
+
+    private static List<Long> grossRoundIds(CourseLeaderboardService service) {
+        List<Long> ids = new ArrayList<>();
+        for (LeaderboardEntry entry : service.getLeaderboard(COURSE, null, CourseLeaderboardService.Metric.GROSS,
+                service.getSize()).getEntries()) {
+            ids.add(entry.getRoundId());
+        }
+        return ids;
+    }
+
+    // Row layout of the leaderboard repository queries; usernames stand for their user
+    private static Object[] row(long roundId, String username, String roundDate, int totalScore, int par) {
+        return new Object[] {roundId, (long) username.hashCode(), username, COURSE_ID,
+                LocalDateTime.parse(roundDate), totalScore, par};
+    }
+
+    private static GolfRound round(long id, String roundDate, int totalScore) {
+        User user = new User();
+        user.setId((long) "ann".hashCode());
+        user.setUsername("ann");
+        Course course = new Course(COURSE);
+        course.setId(COURSE_ID);
+        GolfRound round = new GolfRound();
+        round.setId(id);
+        round.setUser(user);
+        round.setCourse(course);
+        round.setCourseName(COURSE);
+        round.setRoundDate(LocalDateTime.parse(roundDate));
+        round.setTotalScore(totalScore);
+        round.setPar(72);
+        return round;
+    }
+
+    private static RoundSnapshot imported(long id, String roundDate, int totalScore) {
+        GolfRound round = round(id, roundDate, totalScore);
+        round.setUser(null);
+        return RoundSnapshot.imported(round, id, 5L);
+    }
+}
@@ -0,0 +1,99 @@
+package com.golfdiary.backend.service;
+
+import com.golfdiary.backend.entity.Shot;
+import com.golfdiary.backend.entity.ShotLocation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShotLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsBackEveryFrame() throws IOException {
+        List<Path> sealed;
+        try (ShotLog log = new ShotLog(directory, true)) {
+            log.append(List.of(List.of(shot("a", 1), shot("b", 2)), List.of(shot("c", 3))));
+            log.append(List.of(List.of(shot("d", 4))));
+            sealed = log.seal();
+        }
+
+        assertThat(sealed).hasSize(1);
+        List<Shot> shots = ShotLog.read(sealed.get(0));
+        assertThat(shots).extracting(Shot::getEventId).containsExactly("a", "b", "c", "d");
+        Shot first = shots.get(0);
+        assertThat(first.getUserId()).isEqualTo(7L);
+        assertThat(first.getRoundId()).isEqualTo(11L);
+        assertThat(first.getHole()).isEqualTo(1);
+        assertThat(first.getClub()).isEqualTo("7i");
+        assertThat(first.getDistance()).isEqualTo(150);
+        assertThat(first.getLie()).isEqualTo(ShotLocation.FAIRWAY);
+        assertThat(first.getResult()).isNull();
+        assertThat(first.getRecordedAt()).isNull();
+    }
+
+    @Test
+    void ignoresTornFrameAtTheEnd() throws IOException {
+        Path segment = writeSegment(List.of(shot("a", 1)), List.of(shot("b", 2)));
+        byte[] data = Files.readAllBytes(segment);
+        Files.write(segment, Arrays.copyOf(data, data.length - 5));
+
+        assertThat(ShotLog.read(segment)).extracting(Shot::getEventId).containsExactly("a");
+    }
+
+    @Test
+    void stopsAtCorruptFrame() throws IOException {
+        Path segment = writeSegment(List.of(shot("a", 1)), List.of(shot("b", 2)), List.of(shot("c", 3)));
+        byte[] data = Files.readAllBytes(segment);
+        int firstFrame = 8 + ((data[0] & 0xff) << 24 | (data[1] & 0xff) << 16 | (data[2] & 0xff) << 8 | (data[3] & 0xff));
+        // Flip a payload byte of the second frame
+        data[firstFrame + 8 + 4] ^= 0x55;
+        Files.write(segment, data);
+
+        assertThat(ShotLog.read(segment)).extracting(Shot::getEventId).containsExactly("a");
+    }
+
+    @Test
+    void newSegmentsAfterExistingOnes() throws IOException {
+        Path first = writeSegment(List.of(shot("a", 1)));
+        Path second = writeSegment(List.of(shot("b", 2)));
+
+        try (ShotLog log = new ShotLog(directory, true)) {
+            assertThat(log.segments()).containsExactly(first, second);
+            log.delete(List.of(first));
+            assertThat(log.segments()).containsExactly(second);
+        }
+    }
+
+    @SafeVarargs
+    private Path writeSegment(List<Shot>... frames) throws IOException {
+        try (ShotLog log = new ShotLog(directory, false)) {
+            log.append(List.of(frames));
+            return log.seal().get(0);
+        }
+    }
+
+    static Shot shot(String eventId, int hole) {
+        Shot shot = new Shot();
+        shot.setEventId(eventId);
+        shot.setUserId(7L);
+        shot.setRoundId(11L);
+        shot.setHole(hole);
+        shot.setShotNumber(1);
+        shot.setClub("7i");
+        shot.setDistance(150);
+        shot.setLie(ShotLocation.FAIRWAY);
+        shot.setCreatedAt(LocalDateTime.of(2026, 5, 1, 10, 0));
+        return shot;
+    }
+}
@@ -0,0 +1,177 @@
+package com.golfdiary.backend.service;
+
+import com.golfdiary.backend.dto.ShotRequest;
+import com.golfdiary.backend.entity.Shot;
+import com.golfdiary.backend.repository.ShotRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Drives ShotService against its own H2 database and log directory, so startup replay can be
+ * tested with segments left behind by a previous run.
+ */
+class ShotServiceTest {
+
+    @TempDir
+    Path logDirectory;
+
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+    private final List<ShotService> services = new ArrayList<>();
+
+    @BeforeEach
+    void createDatabase() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:shots-" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate.execute("CREATE TABLE shots (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "event_id VARCHAR(36) NOT NULL, user_id BIGINT NOT NULL, round_id BIGINT NOT NULL, "
+                + "hole INT, shot_number INT, club VARCHAR(16), distance INT, lie VARCHAR(16), result VARCHAR(16), "
+                + "recorded_at TIMESTAMP, created_at TIMESTAMP, CONSTRAINT uk_shots_event UNIQUE (event_id))");
+    }
+
+    @AfterEach
+    void stopServices() {
+        services.forEach(ShotService::stop);
+    }
+
+    @Test
+    void replaysLeftoverSegmentsAtStartup() throws IOException {
+        Shot stored = ShotLogTest.shot("00000000-0000-0000-0000-000000000001", 1);
+        try (ShotLog log = new ShotLog(logDirectory, false)) {
+            log.append(List.of(List.of(stored, ShotLogTest.shot("00000000-0000-0000-0000-000000000002", 2))));
+            log.seal();
+            log.append(List.of(List.of(ShotLogTest.shot("00000000-0000-0000-0000-000000000003", 3))));
+            log.seal();
+        }
+        // Stored by the previous run before it crashed, so replay must not insert it again
+        insert(stored);
+
+        ShotService service = start(100, 50, 5);
+
+        assertThat(storedHoles()).containsExactly(1, 2, 3);
+        assertThat(new ShotLog(logDirectory, false).segments()).isEmpty();
+        assertThat(service.isRunning()).isTrue();
+    }
+
+    @Test
+    void rejectsShotsWhenTheBufferIsFull() {
+        // Nothing is flushed while the test runs; stop() waits out one interval for the log writer
+        ShotService service = start(3, 5_000, 5);
+
+        assertThat(service.accept(7L, 11L, null, List.of(request(1, 150), request(2, 150)))).isEqualTo(2);
+        assertThatThrownBy(() -> service.accept(7L, 11L, null, List.of(request(3, 150), request(4, 150))))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(service.accept(7L, 11L, null, List.of(request(3, 150)))).isEqualTo(1);
+
+        service.stop();
+        assertThat(storedHoles()).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    void retriedBatchIsStoredOnce() {
+        ShotService service = start(100, 50, 5);
+
+        service.accept(7L, 11L, "batch-1", List.of(request(1, 150), request(2, 150)));
+        service.accept(7L, 11L, "batch-1", List.of(request(1, 150), request(2, 150)));
+        service.stop();
+
+        assertThat(storedHoles()).containsExactly(1, 2);
+    }
+
+    @Test
+    void deadLettersShotsTheDatabaseRefuses() throws IOException {
+        jdbcTemplate.execute("ALTER TABLE shots ADD CONSTRAINT ck_shots_distance CHECK (distance < 200)");
+        ShotService service = start(100, 50, 2);
+
+        service.accept(7L, 11L, null, List.of(request(1, 150), request(2, 500)));
+        waitFor(() -> storedHoles().size() == 1 && !deadLettered().isEmpty());
+
+        assertThat(storedHoles()).containsExactly(1);
+        List<Shot> refused = deadLettered();
+        assertThat(refused).extracting(Shot::getHole).containsExactly(2);
+        assertThat(refused.get(0).getDistance()).isEqualTo(500);
+
+        // The buffer has its capacity back and later shots still go through
+        service.accept(7L, 11L, null, List.of(request(3, 150)));
+        waitFor(() -> storedHoles().size() == 2);
+    }
+
+    private ShotService start(int capacity, long flushIntervalMillis, int maxAttempts) {
+        try {
+            ShotService service = new ShotService(mock(ShotRepository.class), jdbcTemplate, transactionManager,
+                    new SimpleMeterRegistry(), logDirectory.toString(), false, capacity, 500, flushIntervalMillis,
+                    maxAttempts, 500, 1);
+            services.add(service);
+            service.start();
+            return service;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void insert(Shot shot) {
+        jdbcTemplate.update("INSERT INTO shots (event_id, user_id, round_id, hole, shot_number, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", shot.getEventId(), shot.getUserId(), shot.getRoundId(), shot.getHole(),
+                shot.getShotNumber(), shot.getCreatedAt());
+    }
+
+    private List<Integer> storedHoles() {
+        return jdbcTemplate.queryForList("SELECT hole FROM shots ORDER BY hole", Integer.class);
+    }
+
+    // Reads frames rather than listing segments, since a segment exists before its frame is written
+    private List<Shot> deadLettered() {
+        try {
+            List<Shot> shots = new ArrayList<>();
+            for (Path segment : new ShotLog(logDirectory.resolve("dead-letter"), false).segments()) {
+                shots.addAll(ShotLog.read(segment));
+            }
+            return shots;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ShotRequest request(int hole, int distance) {
+        ShotRequest request = new ShotRequest();
+        request.setHole(hole);
+        request.setShotNumber(1);
+        request.setClub("7i");
+        request.setDistance(distance);
+        return request;
+    }
+
+    private static void waitFor(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
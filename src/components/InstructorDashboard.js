@@ -9,6 +9,8 @@ const InstructorDashboard = () => {
   const [error, setError] = useState('');
   const [showCreateForm, setShowCreateForm] = useState(false);
   const [editingLesson, setEditingLesson] = useState(null);
+  const [lessonDetails, setLessonDetails] = useState({});
+  const [expandedLessonId, setExpandedLessonId] = useState(null);
   const [newLesson, setNewLesson] = useState({
     title: '',
     description: '',
@@ -30,6 +32,7 @@ const InstructorDashboard = () => {
       setLoading(true);
       const data = await lessonsAPI.getInstructorLessons();
       setLessons(data);
+      setLessonDetails({});
     } catch (err) {
       setError('Failed to fetch lessons. Please try again.');
       console.error('Error fetching lessons:', err);
@@ -86,7 +89,37 @@ const InstructorDashboard = () => {
     }
   };
 
-  const handleEditLesson = (lesson) => {
+  // The list only holds summaries; the full lesson is fetched when it is opened or edited
+  const loadLessonDetails = async (id) => {
+    if (lessonDetails[id]) {
+      return lessonDetails[id];
+    }
+    const lesson = await lessonsAPI.getInstructorLesson(id);
+    setLessonDetails(prev => ({ ...prev, [id]: lesson }));
+    return lesson;
+  };
+
+  const handleToggleLesson = async (id) => {
+    if (expandedLessonId === id) {
+      setExpandedLessonId(null);
+      return;
+    }
+    try {
+      await loadLessonDetails(id);
+      setExpandedLessonId(id);
+    } catch (err) {
+      setError('Failed to load lesson. Please try again.');
+    }
+  };
+
+  const handleEditLesson = async (summary) => {
+    let lesson;
+    try {
+      lesson = await loadLessonDetails(summary.id);
+    } catch (err) {
+      setError('Failed to load lesson. Please try again.');
+      return;
+    }
     setEditingLesson(lesson);
     setNewLesson({
       title: lesson.title || '',
@@ -374,11 +407,11 @@ const InstructorDashboard = () => {
                                        </h3>
                                        <div className="flex items-center mt-1 space-x-4">
                                          <span className={`inline-flex items-center px-2.5 py-0.5 rounded-full text-xs font-medium ${
-                                           lesson.isPublished 
+                                           lesson.published 
                                              ? 'bg-green-100 text-green-800' 
                                              : 'bg-yellow-100 text-yellow-800'
                                          }`}>
-                                           {lesson.isPublished ? 'Published' : 'Draft'}
+                                           {lesson.published ? 'Published' : 'Draft'}
                                          </span>
                                          <span className="text-sm text-gray-500">
                                            {lesson.category} • {lesson.level}
@@ -389,20 +422,20 @@ const InstructorDashboard = () => {
                                  </div>
                                </div>
                                
-                               {lesson.description && (
+                               {expandedLessonId === lesson.id && lessonDetails[lesson.id]?.description && (
                                  <div className="mb-4">
                                    <p className="text-sm text-gray-600 leading-relaxed">
-                                     {lesson.description}
+                                     {lessonDetails[lesson.id].description}
                                    </p>
                                  </div>
                                )}
                                
-                               {lesson.videoUrl && (
+                               {expandedLessonId === lesson.id && lessonDetails[lesson.id]?.videoUrl && (
                                  <div className="mb-4">
                                    <div className="text-sm font-medium text-gray-700 mb-2">Video:</div>
                                    <div className="relative w-full h-48 bg-gray-100 rounded-lg overflow-hidden">
                                      <iframe
-                                       src={getYouTubeEmbedUrl(lesson.videoUrl)}
+                                       src={getYouTubeEmbedUrl(lessonDetails[lesson.id].videoUrl)}
                                        title="Lesson Video"
                                        className="w-full h-full"
                                        frameBorder="0"
@@ -413,18 +446,24 @@ const InstructorDashboard = () => {
                                  </div>
                                )}
                                
-                               {lesson.content && (
+                               {expandedLessonId === lesson.id && lessonDetails[lesson.id]?.content && (
                                  <div className="mb-4">
                                    <div className="text-sm font-medium text-gray-700 mb-2">Content:</div>
                                    <div className="bg-gray-50 rounded-lg p-4">
                                      <p className="text-sm text-gray-600 leading-relaxed whitespace-pre-wrap">
-                                       {lesson.content}
+                                       {lessonDetails[lesson.id].content}
                                      </p>
                                    </div>
                                  </div>
                                )}
                              </div>
                                                          <div className="flex items-center space-x-2">
+                               <button
+                                 onClick={() => handleToggleLesson(lesson.id)}
+                                 className="inline-flex items-center px-3 py-1 border border-transparent text-sm font-medium rounded-md text-gray-700 bg-gray-100 hover:bg-gray-200 focus:outline-none focus:ring-2 focus:ring-offset-2 focus:ring-gray-500"
+                               >
+                                 {expandedLessonId === lesson.id ? 'Hide' : 'View'}
+                               </button>
                                <button
                                  onClick={() => handleEditLesson(lesson)}
                                  className="inline-flex items-center px-3 py-1 border border-transparent text-sm font-medium rounded-md text-blue-700 bg-blue-100 hover:bg-blue-200 focus:outline-none focus:ring-2 focus:ring-offset-2 focus:ring-blue-500"
@@ -434,7 +473,7 @@ const InstructorDashboard = () => {
                                  </svg>
                                  Edit
                                </button>
-                               {lesson.isPublished ? (
+                               {lesson.published ? (
                                  <button
                                    onClick={() => handleUnpublishLesson(lesson.id)}
                                    className="inline-flex items-center px-3 py-1 border border-transparent text-sm font-medium rounded-md text-yellow-700 bg-yellow-100 hover:bg-yellow-200 focus:outline-none focus:ring-2 focus:ring-offset-2 focus:ring-yellow-500"
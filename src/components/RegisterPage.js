@@ -1,4 +1,4 @@
-import React, { useState } from 'react';
+import React, { useState, useEffect } from 'react';
 import { useNavigate, Link } from 'react-router-dom';
 import { authAPI } from '../services/api';
 
@@ -14,9 +14,62 @@ const RegisterPage = () => {
   });
   const [error, setError] = useState('');
   const [isLoading, setIsLoading] = useState(false);
+  const [availability, setAvailability] = useState({ username: null, email: null });
   
   const navigate = useNavigate();
 
+  // Check username/email availability shortly after the user stops typing. Each edit aborts the
+  // previous check, so a slow response for an older value never overwrites a newer one
+  useEffect(() => {
+    const username = formData.username.trim();
+    if (username.length < 3) {
+      setAvailability((prev) => ({ ...prev, username: null }));
+      return undefined;
+    }
+    const controller = new AbortController();
+    const timer = setTimeout(async () => {
+      try {
+        const result = await authAPI.checkAvailability({ username }, controller.signal);
+        if (!controller.signal.aborted) {
+          setAvailability((prev) => ({ ...prev, username: result.usernameAvailable }));
+        }
+      } catch (err) {
+        if (!controller.signal.aborted) {
+          setAvailability((prev) => ({ ...prev, username: null }));
+        }
+      }
+    }, 400);
+    return () => {
+      clearTimeout(timer);
+      controller.abort();
+    };
+  }, [formData.username]);
+
+  useEffect(() => {
+    const email = formData.email.trim();
+    if (!email.includes('@')) {
+      setAvailability((prev) => ({ ...prev, email: null }));
+      return undefined;
+    }
+    const controller = new AbortController();
+    const timer = setTimeout(async () => {
+      try {
+        const result = await authAPI.checkAvailability({ email }, controller.signal);
+        if (!controller.signal.aborted) {
+          setAvailability((prev) => ({ ...prev, email: result.emailAvailable }));
+        }
+      } catch (err) {
+        if (!controller.signal.aborted) {
+          setAvailability((prev) => ({ ...prev, email: null }));
+        }
+      }
+    }, 400);
+    return () => {
+      clearTimeout(timer);
+      controller.abort();
+    };
+  }, [formData.email]);
+
   const handleChange = (e) => {
     setFormData({
       ...formData,
@@ -29,6 +82,14 @@ const RegisterPage = () => {
       setError('Username is required');
       return false;
     }
+    if (availability.username === false) {
+      setError('Username already exists');
+      return false;
+    }
+    if (availability.email === false) {
+      setError('Email already exists');
+      return false;
+    }
     if (!formData.email.trim()) {
       setError('Email is required');
       return false;
@@ -117,6 +178,12 @@ const RegisterPage = () => {
                 value={formData.username}
                 onChange={handleChange}
               />
+              {availability.username === false && (
+                <p className="mt-1 text-xs text-red-600">This username is already taken</p>
+              )}
+              {availability.username === true && (
+                <p className="mt-1 text-xs text-green-600">Username is available</p>
+              )}
             </div>
 
             <div>
@@ -133,6 +200,9 @@ const RegisterPage = () => {
                 value={formData.email}
                 onChange={handleChange}
               />
+              {availability.email === false && (
+                <p className="mt-1 text-xs text-red-600">An account with this email already exists</p>
+              )}
             </div>
 
             <div className="grid grid-cols-2 gap-4">
@@ -10,6 +10,8 @@ const StudentDashboard = () => {
   const [error, setError] = useState('');
   const [activeTab, setActiveTab] = useState('lessons');
   const [retryCount, setRetryCount] = useState(0);
+  const [lessonDetails, setLessonDetails] = useState({});
+  const [expandedLessonId, setExpandedLessonId] = useState(null);
   
   const { logout, username } = useAuth();
   const navigate = useNavigate();
@@ -88,6 +90,28 @@ const StudentDashboard = () => {
     // This will trigger the useEffect to run again
   };
 
+  // The list only holds summaries; the full lesson is fetched the first time it is opened
+  const handleToggleLesson = async (id) => {
+    if (expandedLessonId === id) {
+      setExpandedLessonId(null);
+      return;
+    }
+    if (!lessonDetails[id]) {
+      try {
+        const lesson = await publicLessonsAPI.getLesson(id);
+        setLessonDetails(prev => ({ ...prev, [id]: lesson }));
+      } catch (err) {
+        if (err.response?.status !== 404) {
+          console.error('Error fetching lesson:', err);
+          return;
+        }
+        // Drafts are listed but their content is not public yet
+        setLessonDetails(prev => ({ ...prev, [id]: { unavailable: true } }));
+      }
+    }
+    setExpandedLessonId(id);
+  };
+
   // Helper function to convert YouTube URL to embed URL
   const getYouTubeEmbedUrl = (url) => {
     if (!url) return '';
@@ -266,20 +290,28 @@ const StudentDashboard = () => {
                                      </div>
                                    </div>
                                    
-                                   {lesson.description && (
+                                   {expandedLessonId === lesson.id && lessonDetails[lesson.id]?.unavailable && (
+                                     <div className="mb-4">
+                                       <p className="text-sm text-gray-500 italic">
+                                         This lesson will be available once the instructor publishes it.
+                                       </p>
+                                     </div>
+                                   )}
+                                   
+                                   {expandedLessonId === lesson.id && lessonDetails[lesson.id]?.description && (
                                      <div className="mb-4">
                                        <p className="text-sm text-gray-600 leading-relaxed">
-                                         {lesson.description}
+                                         {lessonDetails[lesson.id].description}
                                        </p>
                                      </div>
                                    )}
                                    
-                                   {lesson.videoUrl && (
+                                   {expandedLessonId === lesson.id && lessonDetails[lesson.id]?.videoUrl && (
                                      <div className="mb-4">
                                        <div className="text-sm font-medium text-gray-700 mb-2">Video:</div>
                                        <div className="relative w-full h-48 bg-gray-100 rounded-lg overflow-hidden">
                                          <iframe
-                                           src={getYouTubeEmbedUrl(lesson.videoUrl)}
+                                           src={getYouTubeEmbedUrl(lessonDetails[lesson.id].videoUrl)}
                                            title="Lesson Video"
                                            className="w-full h-full"
                                            frameBorder="0"
@@ -290,23 +322,36 @@ const StudentDashboard = () => {
                                      </div>
                                    )}
                                    
-                                   {lesson.content && (
+                                   {expandedLessonId === lesson.id && lessonDetails[lesson.id]?.content && (
                                      <div className="mb-4">
                                        <div className="text-sm font-medium text-gray-700 mb-2">Content:</div>
                                        <div className="bg-gray-50 rounded-lg p-4">
                                          <p className="text-sm text-gray-600 leading-relaxed whitespace-pre-wrap">
-                                           {lesson.content}
+                                           {lessonDetails[lesson.id].content}
                                          </p>
                                        </div>
                                      </div>
                                    )}
                                  </div>
                                  
-                                 {lesson.createdAt && (
-                                   <div className="ml-4 text-sm text-gray-500">
-                                     {new Date(lesson.createdAt).toLocaleDateString()}
-                                   </div>
-                                 )}
+                                 <div className="ml-4 flex flex-col items-end space-y-2">
+                                   {lesson.createdAt && (
+                                     <div className="text-sm text-gray-500">
+                                       {new Date(lesson.createdAt).toLocaleDateString()}
+                                     </div>
+                                   )}
+                                   {lesson.instructorName && (
+                                     <div className="text-sm text-gray-500">
+                                       {lesson.instructorName}
+                                     </div>
+                                   )}
+                                   <button
+                                     onClick={() => handleToggleLesson(lesson.id)}
+                                     className="inline-flex items-center px-3 py-1 border border-transparent text-sm font-medium rounded-md text-indigo-700 bg-indigo-100 hover:bg-indigo-200 focus:outline-none focus:ring-2 focus:ring-offset-2 focus:ring-indigo-500"
+                                   >
+                                     {expandedLessonId === lesson.id ? 'Hide lesson' : 'View lesson'}
+                                   </button>
+                                 </div>
                                </div>
                              </div>
                            </li>
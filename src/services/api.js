@@ -50,6 +50,10 @@ export const authAPI = {
     const response = await api.post('/api/auth/register', userData);
     return response.data;
   },
+  checkAvailability: async (params, signal) => {
+    const response = await api.get('/api/auth/availability', { params, signal });
+    return response.data;
+  },
   createTestUser: async () => {
     const response = await api.post('/api/auth/create-test-user');
     return response.data;
@@ -57,9 +61,9 @@ export const authAPI = {
 };
 
 export const golfRoundsAPI = {
-  getGolfRounds: async () => {
+  getGolfRounds: async (cursor) => {
     console.log('API: Making request to /api/golf-rounds');
-    const response = await api.get('/api/golf-rounds');
+    const response = await api.get('/api/golf-rounds', { params: cursor ? { cursor } : {} });
     console.log('API: Response status:', response.status);
     console.log('API: Response data:', response.data);
     return response.data;
@@ -99,6 +103,11 @@ export const lessonsAPI = {
     console.log('API: Response data:', response.data);
     return response.data;
   },
+  // Full lesson (description, content, video) - list endpoints only return summaries
+  getInstructorLesson: async (id) => {
+    const response = await api.get(`/api/lessons/instructor/${id}`);
+    return response.data;
+  },
   createLesson: async (lessonData) => {
     const response = await api.post('/api/lessons', lessonData);
     return response.data;
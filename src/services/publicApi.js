@@ -19,6 +19,11 @@ export const publicLessonsAPI = {
     console.log('Public API: Response data:', response.data);
     return response.data;
   },
+  // Full lesson body; only published lessons are available
+  getLesson: async (id) => {
+    const response = await publicApi.get(`/api/lessons/${id}`);
+    return response.data;
+  },
 };
 
 export default publicApi; 
\ No newline at end of file